@@ -3,6 +3,7 @@ package com.example.backend.cart.controller;
 import com.example.backend.cart.dto.request.CartRequest;
 import com.example.backend.cart.dto.response.CartResponse;
 import com.example.backend.cart.service.CartService;
+import com.example.backend.common.idempotency.IdempotencyStore;
 import com.example.backend.region.service.RegionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,10 +14,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
@@ -31,14 +35,30 @@ public class CartController {
 
     private final CartService cartService;
     private final RegionService regionService;
+    private final IdempotencyStore idempotencyStore;
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     @GetMapping("/cart")
     @Operation(summary = "장바구니 조회", description = "사용자의 모든 장바구니 내용 조회",
             security = @SecurityRequirement(name = "JWT"))
     public ResponseEntity<List<CartResponse.CartDetailResponse>> getCart(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        List<CartResponse.CartDetailResponse> response = cartService.getCart(userDetails.getUsername());
-        return ResponseEntity.ok(response);
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "투어 공간 클러스터링 방식 (geohash, grid), 없으면 투어 목록 그대로")
+            @RequestParam(value = "cluster", required = false) String cluster,
+            @Parameter(description = "geohash 자리수 (1~9, 클수록 작은 클러스터)", example = "5")
+            @RequestParam(value = "precision", defaultValue = "5") int precision,
+            @Parameter(description = "격자 간격 (도, 0.001~10)", example = "0.05")
+            @RequestParam(value = "gridSize", defaultValue = "0.05") double gridSize,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = cartETag(cartService.getCartVersion(userDetails.getUsername()));
+        if (eTagMatches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        // ETag는 실제로 내려주는 목록과 함께 저장된 버전으로 생성
+        CartResponse.VersionedCarts response = cartService.getCart(userDetails.getUsername());
+        return ResponseEntity.ok().eTag(cartETag(response.getVersion()))
+                .body(clustered(response.getCarts(), cluster, precision, gridSize));
     }
 
     @PostMapping("/cart/tours")
@@ -46,8 +66,12 @@ public class CartController {
             security = @SecurityRequirement(name = "JWT"))
     public ResponseEntity<CartResponse.AddTourResponse> addTourToCart(
             @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "재시도 시 같은 값을 보내면 처음 응답을 그대로 반환 (선택)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody CartResponse.TourSearchResponse tourResponse) {
-        CartResponse.AddTourResponse response = cartService.addTourToCart(userDetails.getUsername(), tourResponse);
+        CartResponse.AddTourResponse response = idempotencyStore.execute(
+                "cart-tours:" + userDetails.getUsername(), idempotencyKey, tourResponse, CartResponse.AddTourResponse.class,
+                () -> cartService.addTourToCart(userDetails.getUsername(), tourResponse));
         return ResponseEntity.ok(response);
     }
 
@@ -78,7 +102,7 @@ public class CartController {
 
     @GetMapping("/tour/search")
     @Operation(summary = "투어 검색", description = "공공 API 연동을 통한 투어 검색")
-    public ResponseEntity<Page<CartResponse.TourSearchResponse>> searchTours(
+    public Mono<ResponseEntity<Page<CartResponse.TourSearchResponse>>> searchTours(
             @Parameter(description = "검색 키워드 (예: 해운대)", example = "해운대")
             @RequestParam(value = "keyword", required = false) String keyword,
 
@@ -95,27 +119,27 @@ public class CartController {
             @RequestParam(value = "size", defaultValue = "20") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<CartResponse.TourSearchResponse> response = cartService.searchTours(keyword, region, category, pageable);
-        return ResponseEntity.ok(response);
+        return cartService.searchToursAsync(keyword, region, category, pageable)
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/tour/detail/{contentId}")
     @Operation(summary = "투어 상세 정보 조회", 
                description = "contentId를 통한 투어 상세 정보 조회 (상세 페이지용)")
-    public ResponseEntity<CartResponse.TourDetailResponse> getTourDetail(
+    public Mono<ResponseEntity<CartResponse.TourDetailResponse>> getTourDetail(
             @Parameter(description = "투어 컨텐츠 ID", example = "126508")
             @PathVariable String contentId,
             @AuthenticationPrincipal UserDetails userDetails) {
         
-        CartResponse.TourDetailResponse response = cartService.getTourDetail(contentId, 
-                userDetails != null ? userDetails.getUsername() : null);
-        return ResponseEntity.ok(response);
+        return cartService.getTourDetailAsync(contentId,
+                        userDetails != null ? userDetails.getUsername() : null)
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/tour/search/theme")
     @Operation(summary = "테마별 투어 검색", 
                description = "테마 기반 투어 검색 (cat1, cat2, cat3 활용)")
-    public ResponseEntity<Page<CartResponse.TourSearchResponse>> searchToursByTheme(
+    public Mono<ResponseEntity<Page<CartResponse.TourSearchResponse>>> searchToursByTheme(
             @Parameter(description = "테마 (자연, 인문, 레포츠, 쇼핑, 음식, 숙박, 문화시설, 축제, 체험, 힐링)", example = "자연")
             @RequestParam("theme") String theme,
 
@@ -129,8 +153,8 @@ public class CartController {
             @RequestParam(value = "size", defaultValue = "20") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<CartResponse.TourSearchResponse> response = cartService.searchToursByTheme(theme, region, pageable);
-        return ResponseEntity.ok(response);
+        return cartService.searchToursByThemeAsync(theme, region, pageable)
+                .map(ResponseEntity::ok);
     }
 
     @PostMapping("/cart/tours/simple")
@@ -139,17 +163,20 @@ public class CartController {
                security = @SecurityRequirement(name = "JWT"))
     public ResponseEntity<CartResponse.AddTourResponse> addTourToCartByContentId(
             @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "재시도 시 같은 값을 보내면 처음 응답을 그대로 반환 (선택)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "추가할 투어의 contentId", example = "126508")
             @RequestParam("contentId") String contentId) {
         
-        CartResponse.AddTourResponse response = cartService.addTourToCartByContentId(
-                userDetails.getUsername(), contentId);
+        CartResponse.AddTourResponse response = idempotencyStore.execute(
+                "cart-tours-simple:" + userDetails.getUsername(), idempotencyKey, null, CartResponse.AddTourResponse.class,
+                () -> cartService.addTourToCartByContentId(userDetails.getUsername(), contentId));
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/places/region")
     @Operation(summary = "지역별 장소 검색", description = "법정동 코드로 해당 지역의 장소들 검색")
-    public ResponseEntity<Page<CartResponse.TourSearchResponse>> getPlacesByRegion(
+    public Mono<ResponseEntity<Page<CartResponse.TourSearchResponse>>> getPlacesByRegion(
             HttpServletRequest request,
             @Parameter(description = "법정동 시/도 코드 (강원특별자치도=51)", example = "51") 
             @RequestParam String lDongRegnCd,
@@ -166,13 +193,13 @@ public class CartController {
         regionService.incrementViewCountByLDong(lDongRegnCd, lDongSignguCd, ipAddress, userAgent);
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<CartResponse.TourSearchResponse> response = cartService.searchPlacesByLDong(lDongRegnCd, lDongSignguCd, pageable);
-        return ResponseEntity.ok(response);
+        return cartService.searchPlacesByLDongAsync(lDongRegnCd, lDongSignguCd, pageable)
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/places/region/theme")
     @Operation(summary = "지역 및 테마별 장소 검색", description = "법정동 코드와 contentTypeId로 장소들 검색")
-    public ResponseEntity<Page<CartResponse.TourSearchResponse>> getPlacesByRegionAndTheme(
+    public Mono<ResponseEntity<Page<CartResponse.TourSearchResponse>>> getPlacesByRegionAndTheme(
             HttpServletRequest request,
             @Parameter(description = "법정동 시/도 코드 (강원특별자치도=51)", example = "51") 
             @RequestParam String lDongRegnCd,
@@ -191,8 +218,8 @@ public class CartController {
         regionService.incrementViewCountByLDong(lDongRegnCd, lDongSignguCd, ipAddress, userAgent);
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<CartResponse.TourSearchResponse> response = cartService.searchPlacesByLDongAndContentType(lDongRegnCd, lDongSignguCd, contentTypeId, pageable);
-        return ResponseEntity.ok(response);
+        return cartService.searchPlacesByLDongAndContentTypeAsync(lDongRegnCd, lDongSignguCd, contentTypeId, pageable)
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -219,9 +246,13 @@ public class CartController {
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "법정동 시/도 코드", example = "11")
             @RequestParam(value = "lDongRegnCd", defaultValue = "11") String lDongRegnCd,
+            @Parameter(description = "재시도 시 같은 값을 보내면 처음 응답을 그대로 반환 (선택)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "법정동 시 코드", example = "110")
             @RequestParam(value = "lDongSignguCd", defaultValue = "110") String lDongSignguCd) {
-        CartResponse.CartDetailResponse response = cartService.createCart(userDetails.getUsername(), lDongRegnCd, lDongSignguCd);
+        CartResponse.CartDetailResponse response = idempotencyStore.execute(
+                "carts:" + userDetails.getUsername(), idempotencyKey, null, CartResponse.CartDetailResponse.class,
+                () -> cartService.createCart(userDetails.getUsername(), lDongRegnCd, lDongSignguCd));
         return ResponseEntity.ok(response);
     }
 
@@ -229,8 +260,34 @@ public class CartController {
     @Operation(summary = "사용자의 모든 장바구니 조회", description = "사용자의 모든 장바구니 목록 조회",
             security = @SecurityRequirement(name = "JWT"))
     public ResponseEntity<List<CartResponse.CartDetailResponse>> getUserCarts(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        List<CartResponse.CartDetailResponse> response = cartService.getUserCarts(userDetails.getUsername());
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "투어 공간 클러스터링 방식 (geohash, grid), 없으면 투어 목록 그대로")
+            @RequestParam(value = "cluster", required = false) String cluster,
+            @Parameter(description = "geohash 자리수 (1~9, 클수록 작은 클러스터)", example = "5")
+            @RequestParam(value = "precision", defaultValue = "5") int precision,
+            @Parameter(description = "격자 간격 (도, 0.001~10)", example = "0.05")
+            @RequestParam(value = "gridSize", defaultValue = "0.05") double gridSize,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = cartETag(cartService.getCartVersion(userDetails.getUsername()));
+        if (eTagMatches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        CartResponse.VersionedCarts response = cartService.getUserCarts(userDetails.getUsername());
+        return ResponseEntity.ok().eTag(cartETag(response.getVersion()))
+                .body(clustered(response.getCarts(), cluster, precision, gridSize));
+    }
+
+    @GetMapping("/carts/changes")
+    @Operation(summary = "장바구니 변경 내역 조회 (증분 동기화)",
+               description = "since 버전 이후 추가/삭제된 투어와 변경된 장바구니 합계만 조회. " +
+                       "since에는 이전 응답의 version 또는 /carts 응답 ETag의 버전을 전달. " +
+                       "resetRequired가 true면 /carts 전체를 다시 조회",
+               security = @SecurityRequirement(name = "JWT"))
+    public ResponseEntity<CartResponse.CartChangesResponse> getCartChanges(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "마지막으로 받은 장바구니 버전", example = "0")
+            @RequestParam("since") long since) {
+        CartResponse.CartChangesResponse response = cartService.getCartChanges(userDetails.getUsername(), since);
         return ResponseEntity.ok(response);
     }
 
@@ -240,9 +297,16 @@ public class CartController {
     public ResponseEntity<CartResponse.CartDetailResponse> getCartById(
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "장바구니 ID")
-            @PathVariable UUID cartId) {
+            @PathVariable UUID cartId,
+            @Parameter(description = "투어 공간 클러스터링 방식 (geohash, grid), 없으면 투어 목록 그대로")
+            @RequestParam(value = "cluster", required = false) String cluster,
+            @Parameter(description = "geohash 자리수 (1~9, 클수록 작은 클러스터)", example = "5")
+            @RequestParam(value = "precision", defaultValue = "5") int precision,
+            @Parameter(description = "격자 간격 (도, 0.001~10)", example = "0.05")
+            @RequestParam(value = "gridSize", defaultValue = "0.05") double gridSize) {
         CartResponse.CartDetailResponse response = cartService.getCartById(userDetails.getUsername(), cartId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(cluster == null ? response
+                : cartService.withClusters(response, cluster, precision, gridSize));
     }
 
     @DeleteMapping("/carts/{cartId}")
@@ -263,8 +327,29 @@ public class CartController {
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "장바구니 ID")
             @PathVariable UUID cartId,
+            @Parameter(description = "재시도 시 같은 값을 보내면 처음 응답을 그대로 반환 (선택)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody CartResponse.TourSearchResponse tourResponse) {
-        CartResponse.AddTourResponse response = cartService.addTourToSpecificCart(userDetails.getUsername(), cartId, tourResponse);
+        CartResponse.AddTourResponse response = idempotencyStore.execute(
+                "carts-tours:" + userDetails.getUsername() + ":" + cartId, idempotencyKey, tourResponse, CartResponse.AddTourResponse.class,
+                () -> cartService.addTourToSpecificCart(userDetails.getUsername(), cartId, tourResponse));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/carts/{cartId}/tours/bulk")
+    @Operation(summary = "특정 장바구니에 투어 일괄 추가",
+               description = "contentId 목록 또는 검색 결과 목록을 한 번에 추가 (이미 담긴 투어는 건너뜀)",
+               security = @SecurityRequirement(name = "JWT"))
+    public ResponseEntity<CartResponse.BulkAddTourResponse> addToursToSpecificCart(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "장바구니 ID")
+            @PathVariable UUID cartId,
+            @Parameter(description = "재시도 시 같은 값을 보내면 처음 응답을 그대로 반환 (선택)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody CartRequest.BulkAddTourRequest request) {
+        CartResponse.BulkAddTourResponse response = idempotencyStore.execute(
+                "carts-tours-bulk:" + userDetails.getUsername() + ":" + cartId, idempotencyKey, request, CartResponse.BulkAddTourResponse.class,
+                () -> cartService.addToursToSpecificCart(userDetails.getUsername(), cartId, request));
         return ResponseEntity.ok(response);
     }
 
@@ -276,11 +361,45 @@ public class CartController {
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "장바구니 ID")
             @PathVariable UUID cartId,
+            @Parameter(description = "재시도 시 같은 값을 보내면 처음 응답을 그대로 반환 (선택)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Parameter(description = "추가할 투어의 contentId", example = "126508")
             @RequestParam("contentId") String contentId) {
         
-        CartResponse.AddTourResponse response = cartService.addTourToSpecificCartByContentId(
-                userDetails.getUsername(), cartId, contentId);
+        CartResponse.AddTourResponse response = idempotencyStore.execute(
+                "carts-tours-simple:" + userDetails.getUsername() + ":" + cartId, idempotencyKey, null, CartResponse.AddTourResponse.class,
+                () -> cartService.addTourToSpecificCartByContentId(userDetails.getUsername(), cartId, contentId));
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    private List<CartResponse.CartDetailResponse> clustered(List<CartResponse.CartDetailResponse> carts,
+                                                            String cluster, int precision, double gridSize) {
+        if (cluster == null) {
+            return carts;
+        }
+        return carts.stream()
+                .map(cart -> cartService.withClusters(cart, cluster, precision, gridSize))
+                .toList();
+    }
+
+    private static String cartETag(long version) {
+        return "\"cart-v" + version + "\"";
+    }
+
+    // If-None-Match는 여러 값(쉼표 구분)이나 약한 ETag(W/ 접두사)로 올 수 있음
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(eTag) || value.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
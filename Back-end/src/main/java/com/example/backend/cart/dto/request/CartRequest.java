@@ -1,7 +1,9 @@
 package com.example.backend.cart.dto.request;
 
+import com.example.backend.cart.dto.response.CartResponse;
 import lombok.*;
 import java.math.BigDecimal;
+import java.util.List;
 
 public class CartRequest {
 
@@ -36,4 +38,34 @@ public class CartRequest {
         private String lclsSystm2;
         private String lclsSystm3;
     }
-}
\ No newline at end of file
+
+    /**
+     * 장바구니 일괄 추가 요청
+     * tours: 검색 결과를 그대로 전달 / contentIds: contentId만 전달 (상세 정보는 서버에서 조회)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkAddTourRequest {
+        private List<String> contentIds;
+        private List<CartResponse.TourSearchResponse> tours;
+    }
+
+    /**
+     * 장바구니 조회 시 투어 공간 클러스터링 방식
+     * GEOHASH: geohash 앞 precision자리가 같은 투어끼리 / GRID: 위경도 gridSize도 간격 격자 칸 단위
+     */
+    public enum ClusterMode {
+        GEOHASH,
+        GRID;
+
+        public static ClusterMode from(String value) {
+            try {
+                return ClusterMode.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 클러스터 방식입니다: " + value + " (geohash, grid)");
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.backend.cart.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import java.util.UUID;
 import com.example.backend.tour.entity.TourCategory;
+import com.example.backend.cart.entity.CartChangeType;
 
 public class CartResponse {
 
@@ -14,9 +16,29 @@ public class CartResponse {
         private UUID cartId;
         private String lDongRegnCd;
         private String lDongSignguCd;
-        private java.util.List<TourInfo> tours;
+        private java.util.List<TourInfo> tours; // 클러스터 조회 시에는 좌표가 없는 투어만
         private int totalCount;
         private long totalPrice;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private java.util.List<TourCluster> clusters; // 클러스터 조회 시에만
+    }
+
+    // 공간 클러스터 (장바구니 조회 cluster 옵션)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TourCluster {
+        private String key; // geohash 또는 grid:행:열
+        private int count;
+        private double centerLatitude;
+        private double centerLongitude;
+        private double minLatitude;
+        private double minLongitude;
+        private double maxLatitude;
+        private double maxLongitude;
+        private java.util.List<UUID> tourIds;
+        private TourInfo tour; // 투어가 하나뿐인 클러스터만
     }
 
     @Getter
@@ -45,6 +67,17 @@ public class CartResponse {
         private String message;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkAddTourResponse {
+        private java.util.List<UUID> tourIds;
+        private int addedCount;
+        private java.util.List<String> skippedContentIds; // 이미 장바구니에 있던 contentId
+        private String message;
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
@@ -110,4 +143,51 @@ public class CartResponse {
         private String title;
         private String image;
     }
-}
\ No newline at end of file
+
+    // 증분 동기화 응답 (since 이후 변경 내역)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CartChangesResponse {
+        private long version; // 다음 요청의 since 값
+        private boolean resetRequired; // true면 변경 내역을 줄 수 없으므로 /carts 전체를 다시 조회
+        private java.util.List<CartChangeItem> changes;
+        private java.util.List<CartTotals> carts; // 변경된 장바구니의 현재 합계 (삭제된 장바구니 제외)
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CartChangeItem {
+        private long version;
+        private CartChangeType type;
+        private UUID cartId;
+        private UUID tourId;
+        private String contentId;
+        private TourInfo tour; // TOUR_ADDED/TOUR_UPDATED이고 아직 장바구니에 있는 경우에만
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CartTotals {
+        private UUID cartId;
+        private String lDongRegnCd;
+        private String lDongSignguCd;
+        private int totalCount;
+        private long totalPrice;
+    }
+
+    // 장바구니 목록과 그 목록을 만든 시점의 변경 버전 (조회 캐시 저장값, ETag 생성용)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VersionedCarts {
+        private long version;
+        private java.util.List<CartDetailResponse> carts;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.cart.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 장바구니별 담긴 투어 수/가격 합계 (CartRepository projection, Cart 행의 tour_count/total_expense)
+ */
+@Getter
+@AllArgsConstructor
+public class CartSummaryDto {
+    private UUID cartId;
+    private String lDongRegnCd;
+    private String lDongSignguCd;
+    private int tourCount;
+    private BigDecimal totalExpense;
+}
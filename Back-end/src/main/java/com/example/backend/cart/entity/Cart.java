@@ -34,6 +34,24 @@ public class Cart {
     @Column(name = "budget")
     private BigDecimal budget;
 
-    @Column(name = "total_expense")
+    // 담긴 투어 가격 합계. 투어 수와 함께 CartRepository의 UPDATE 문으로만 증감하므로
+    // 엔티티 변경 감지로 덮어쓰지 않도록 updatable = false (null이면 CartTotalsBackfillService가 아직 계산하지 않은 장바구니)
+    @Column(name = "total_expense", updatable = false)
     private BigDecimal totalExpense;
+
+    @Column(name = "tour_count", nullable = false, updatable = false)
+    private int tourCount;
+
+    // 지역 코드 등 엔티티로 수정하는 값의 갱신 유실 방지 (합계 증감에는 관여하지 않음)
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // 지역 코드가 비어 있는 기존 장바구니는 기본 지역(서울)으로 설정
+    public void applyDefaultRegionIfEmpty() {
+        if (this.lDongRegnCd == null || this.lDongRegnCd.isEmpty()) {
+            this.lDongRegnCd = "11";
+            this.lDongSignguCd = "110";
+        }
+    }
 }
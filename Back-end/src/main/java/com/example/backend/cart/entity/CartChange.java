@@ -0,0 +1,51 @@
+package com.example.backend.cart.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 사용자별 장바구니 변경 내역 (모바일 클라이언트 증분 동기화용)
+ * version은 사용자별로 1씩 증가하며, 한 트랜잭션의 변경은 같은 version을 가집니다.
+ */
+@Entity
+@Table(name = "cart_change", indexes = {
+        @Index(name = "idx_cart_change_user_version", columnList = "user_id, version"),
+        @Index(name = "idx_cart_change_created", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CartChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long changeId;
+
+    @Column(name = "user_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID userId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private CartChangeType changeType;
+
+    @Column(name = "cart_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID cartId;
+
+    @Column(name = "tour_id", columnDefinition = "BINARY(16)")
+    private UUID tourId;
+
+    @Column(name = "content_id", length = 100)
+    private String contentId;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
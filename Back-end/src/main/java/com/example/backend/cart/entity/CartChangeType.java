@@ -0,0 +1,13 @@
+package com.example.backend.cart.entity;
+
+/**
+ * 장바구니 변경 내역 종류
+ */
+public enum CartChangeType {
+    CART_CREATED,
+    CART_DELETED,
+    CART_CLEARED,
+    TOUR_ADDED,
+    TOUR_REMOVED,
+    TOUR_UPDATED // 장소 상세 정보가 채워지는 등 투어 정보 변경
+}
@@ -0,0 +1,26 @@
+package com.example.backend.cart.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 사용자별 장바구니 버전 (장바구니/투어가 바뀔 때마다 1 증가, ETag와 증분 동기화 기준)
+ * 같은 사용자의 변경은 이 행의 잠금으로 순서가 정해지므로 버전 순서와 커밋 순서가 같습니다.
+ */
+@Entity
+@Table(name = "user_cart_version")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserCartVersion {
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID userId;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
@@ -0,0 +1,30 @@
+package com.example.backend.cart.repository;
+
+import com.example.backend.cart.entity.CartChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CartChangeRepository extends JpaRepository<CartChange, Long> {
+
+    @Query("SELECT c FROM CartChange c WHERE c.userId = :userId AND c.version > :version " +
+           "ORDER BY c.version, c.changeId")
+    List<CartChange> findChangesAfter(@Param("userId") UUID userId,
+                                      @Param("version") long version,
+                                      Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 변경 내역 정리
+     */
+    @Modifying
+    @Query("DELETE FROM CartChange c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
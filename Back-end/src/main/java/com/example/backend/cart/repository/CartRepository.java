@@ -1,10 +1,16 @@
 package com.example.backend.cart.repository;
 
+import com.example.backend.cart.dto.response.CartSummaryDto;
 import com.example.backend.cart.entity.Cart;
+import com.example.backend.common.jpa.UuidBytes;
 import com.example.backend.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +25,49 @@ public interface CartRepository extends JpaRepository<Cart, UUID> {
     List<Cart> findAllByUserId(User user);
 
     Optional<Cart> findByCartIdAndUserId(UUID cartId, User user);
-}
\ No newline at end of file
+
+    /**
+     * 사용자의 장바구니 목록과 장바구니별 투어 수/가격 합계 조회 (합계는 Cart 행에 유지되는 값)
+     */
+    @Query("""
+            SELECT new com.example.backend.cart.dto.response.CartSummaryDto(
+                c.cartId, c.lDongRegnCd, c.lDongSignguCd, c.tourCount, c.totalExpense)
+            FROM Cart c
+            WHERE c.userId = :user
+            """)
+    List<CartSummaryDto> findSummariesByUser(@Param("user") User user);
+
+    /**
+     * 투어 수/가격 합계 증가 (읽고 쓰지 않고 한 문장으로 더하므로 같은 장바구니에 동시에 추가해도 유실이나 충돌이 없음)
+     * total_expense가 null(보정 전)이면 null로 두어 CartTotalsBackfillService가 투어 기준으로 계산하도록 함
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE cart SET tour_count = tour_count + :count, " +
+                   "total_expense = total_expense + :amount WHERE cart_id = :cartId", nativeQuery = true)
+    int addTotals(@Param("cartId") byte[] cartId, @Param("count") int count, @Param("amount") BigDecimal amount);
+
+    default void addTotals(UUID cartId, int count, long amount) {
+        addTotals(UuidBytes.toBytes(cartId), count, BigDecimal.valueOf(amount));
+    }
+
+    /**
+     * 투어 1건 삭제분 차감 (0 미만으로 내려가지 않음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE cart SET tour_count = GREATEST(tour_count - 1, 0), " +
+                   "total_expense = GREATEST(total_expense - :amount, 0) WHERE cart_id = :cartId",
+            nativeQuery = true)
+    int subtractTour(@Param("cartId") byte[] cartId, @Param("amount") BigDecimal amount);
+
+    default void subtractTour(UUID cartId, long amount) {
+        subtractTour(UuidBytes.toBytes(cartId), BigDecimal.valueOf(amount));
+    }
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE cart SET tour_count = 0, total_expense = 0 WHERE cart_id = :cartId", nativeQuery = true)
+    int clearTotals(@Param("cartId") byte[] cartId);
+
+    default void clearTotals(UUID cartId) {
+        clearTotals(UuidBytes.toBytes(cartId));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.backend.cart.repository;
+
+import com.example.backend.cart.entity.UserCartVersion;
+import com.example.backend.common.jpa.UuidBytes;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface UserCartVersionRepository extends JpaRepository<UserCartVersion, UUID> {
+
+    /**
+     * 버전 1 증가 (행이 없으면 1로 생성), 트랜잭션이 끝날 때까지 해당 사용자 행이 잠깁니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO user_cart_version (user_id, version) VALUES (:userId, 1) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    void increment(@Param("userId") byte[] userId);
+
+    default void increment(UUID userId) {
+        increment(UuidBytes.toBytes(userId));
+    }
+
+    @Query("SELECT v.version FROM UserCartVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersion(@Param("userId") UUID userId);
+}
@@ -0,0 +1,152 @@
+package com.example.backend.cart.service;
+
+import com.example.backend.cart.entity.CartChange;
+import com.example.backend.cart.entity.CartChangeType;
+import com.example.backend.cart.repository.CartChangeRepository;
+import com.example.backend.cart.repository.UserCartVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자별 장바구니 버전과 변경 내역 관리
+ * - 장바구니/투어를 바꾸는 트랜잭션마다 사용자 버전을 1 올리고 변경 내역을 같은 트랜잭션에 기록
+ * - 현재 버전은 Redis에 캐시하여 폴링(ETag 비교) 시 DB를 조회하지 않음
+ *   (커밋 순서와 afterCommit 실행 순서가 다를 수 있으므로 캐시 값은 더 큰 값으로만 바뀜)
+ * - 변경 내역은 cart.change-log.retention-days(기본 7일) 동안 보관
+ */
+@Component
+@Slf4j
+public class CartChangeLog {
+
+    private static final String VERSION_KEY_PREFIX = "cart:version:";
+    private static final String TX_VERSION_KEY_PREFIX = CartChangeLog.class.getName() + ".version.";
+    private static final RedisScript<Long> SET_IF_GREATER = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == false or tonumber(current) < tonumber(ARGV[1]) then
+                redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final CartChangeRepository cartChangeRepository;
+    private final UserCartVersionRepository userCartVersionRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration versionTtl;
+    private final int retentionDays;
+
+    public CartChangeLog(CartChangeRepository cartChangeRepository,
+                         UserCartVersionRepository userCartVersionRepository,
+                         RedisTemplate<String, String> redisTemplate,
+                         @Value("${cart.change-log.version-ttl-seconds:3600}") long versionTtlSeconds,
+                         @Value("${cart.change-log.retention-days:7}") int retentionDays) {
+        this.cartChangeRepository = cartChangeRepository;
+        this.userCartVersionRepository = userCartVersionRepository;
+        this.redisTemplate = redisTemplate;
+        this.versionTtl = Duration.ofSeconds(versionTtlSeconds);
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 변경 내역 기록 (호출한 트랜잭션 안에서 실행되어야 함)
+     */
+    public void record(UUID userId, CartChangeType type, UUID cartId, UUID tourId, String contentId) {
+        cartChangeRepository.save(CartChange.builder()
+                .userId(userId)
+                .version(versionForCurrentTransaction(userId))
+                .changeType(type)
+                .cartId(cartId)
+                .tourId(tourId)
+                .contentId(contentId)
+                .build());
+    }
+
+    /**
+     * 트랜잭션당 한 번만 버전을 올리고, 같은 트랜잭션의 변경 내역은 같은 버전으로 기록
+     */
+    private long versionForCurrentTransaction(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("장바구니 변경 내역은 트랜잭션 안에서 기록해야 합니다.");
+        }
+
+        String resourceKey = TX_VERSION_KEY_PREFIX + userId;
+        Long bound = (Long) TransactionSynchronizationManager.getResource(resourceKey);
+        if (bound != null) {
+            return bound;
+        }
+
+        userCartVersionRepository.increment(userId);
+        long version = userCartVersionRepository.findVersion(userId).orElseThrow();
+        TransactionSynchronizationManager.bindResource(resourceKey, version);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheVersion(userId, version);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+            }
+        });
+        return version;
+    }
+
+    /**
+     * 사용자의 현재 장바구니 버전 (변경 내역이 없으면 0)
+     */
+    public long currentVersion(UUID userId) {
+        String key = VERSION_KEY_PREFIX + userId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("장바구니 버전 캐시 조회 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+        }
+
+        long version = userCartVersionRepository.findVersion(userId).orElse(0L);
+        cacheVersion(userId, version);
+        return version;
+    }
+
+    /**
+     * since 이후 변경 내역 (version 순)
+     */
+    public List<CartChange> findChangesAfter(UUID userId, long since, int limit) {
+        return cartChangeRepository.findChangesAfter(userId, since, PageRequest.of(0, limit));
+    }
+
+    @Scheduled(cron = "${cart.change-log.cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deleteExpiredChanges() {
+        int deleted = cartChangeRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("장바구니 변경 내역 정리 완료 - {}건", deleted);
+        }
+    }
+
+    private void cacheVersion(UUID userId, long version) {
+        try {
+            redisTemplate.execute(SET_IF_GREATER, List.of(VERSION_KEY_PREFIX + userId),
+                    String.valueOf(version), String.valueOf(versionTtl.toSeconds()));
+        } catch (Exception e) {
+            log.warn("장바구니 버전 캐시 저장 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+        }
+    }
+}
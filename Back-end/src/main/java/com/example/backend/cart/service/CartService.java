@@ -2,23 +2,39 @@ package com.example.backend.cart.service;
 
 import com.example.backend.cart.dto.request.CartRequest;
 import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.cart.dto.response.CartSummaryDto;
 import com.example.backend.cart.entity.Cart;
+import com.example.backend.cart.entity.CartChange;
+import com.example.backend.cart.entity.CartChangeType;
 import com.example.backend.cart.repository.CartRepository;
 import com.example.backend.tour.dto.response.TourDetailResponse;
+import com.example.backend.tour.entity.Place;
 import com.example.backend.tour.entity.Tour;
 import com.example.backend.tour.entity.TourCategory;
 import com.example.backend.tour.repository.TourRepository;
+import com.example.backend.tour.service.PlaceService;
 import com.example.backend.user.entity.User;
 import com.example.backend.user.repository.UserRepository;
 import com.example.backend.tour.webclient.TourApiClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,145 +47,78 @@ public class CartService {
     private final TourRepository tourRepository;
     private final UserRepository userRepository;
     private final TourApiClient tourApiClient;
-
-    @Transactional
-    public List<CartResponse.CartDetailResponse> getCart(String userIdString) {
-        UUID userId = UUID.fromString(userIdString);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        List<Cart> carts = cartRepository.findAllByUserId(user);
-
-        if (carts.isEmpty()) {
-            return List.of(CartResponse.CartDetailResponse.builder()
+    private final CartViewCache cartViewCache;
+    private final CartChangeLog cartChangeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final PlaceService placeService;
+    private final TourDetailEnrichmentService tourDetailEnrichmentService;
+    private final TourClusterer tourClusterer;
+
+    // 일괄 추가 요청당 최대 투어 수 / 상세 정보 동시 조회 수
+    private static final int BULK_ADD_MAX_SIZE = 100;
+    private static final int BULK_ADD_DETAIL_CONCURRENCY = 8;
+    // 증분 동기화 한 번에 돌려줄 최대 변경 수 (넘으면 전체 재조회)
+    private static final int CHANGES_MAX_SIZE = 500;
+
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (조회 쿼리는 각각 읽기 전용)
+    public CartResponse.VersionedCarts getCart(String userIdString) {
+        CartResponse.VersionedCarts view = getCartViews(UUID.fromString(userIdString));
+
+        if (view.getCarts().isEmpty()) {
+            return new CartResponse.VersionedCarts(view.getVersion(), List.of(CartResponse.CartDetailResponse.builder()
                     .cartId(null)
                     .lDongRegnCd("11")
                     .lDongSignguCd("110")
                     .tours(List.of())
                     .totalCount(0)
                     .totalPrice(0L)
-                    .build());
+                    .build()));
         }
 
-        return carts.stream()
-                .map(cart -> {
-                    List<Tour> tours = tourRepository.findByCartId(cart);
-
-                    List<CartResponse.TourInfo> tourInfos = tours.stream()
-                            .map(tour -> CartResponse.TourInfo.builder()
-                                    .tourId(tour.getTourId())
-                                    .contentId(tour.getContentId())
-                                    .title(tour.getTitle())
-                                    .image(tour.getImage())
-                                    .tema(tour.getTema())
-                                    .longitude(tour.getLongitude())
-                                    .latitude(tour.getLatitude())
-                                    .address(tour.getAddress())
-                                    .category(tour.getCategory())
-                                    .price(tour.getPrice())
-                                    .build())
-                            .collect(Collectors.toList());
-
-                    long totalPrice = tourInfos.stream()
-                            .mapToLong(t -> t.getPrice() != null ? t.getPrice() : 0)
-                            .sum();
-
-                    return CartResponse.CartDetailResponse.builder()
-                            .cartId(cart.getCartId())
-                            .lDongRegnCd(cart.getLDongRegnCd())
-                            .lDongSignguCd(cart.getLDongSignguCd())
-                            .tours(tourInfos)
-                            .totalCount(tourInfos.size())
-                            .totalPrice(totalPrice)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        return view;
     }
 
     @Transactional
     public CartResponse.AddTourResponse addTourToCart(String userIdString, CartResponse.TourSearchResponse tourResponse) {
         UUID userId = UUID.fromString(userIdString);
+        cartViewCache.evictAfterCommit(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
+        // 요청 본문은 contentId만 사용 (공용 place 정보는 서버가 조회한 값으로만 채움)
+        String contentId = tourResponse.getContentId();
+        registerPlaceByContentId(contentId);
+
         Cart cart = cartRepository.findByUserId(user)
                 .orElseGet(() -> createNewCart(user));
 
-        boolean isDuplicate = tourRepository.existsByCartIdAndContentId(cart, tourResponse.getContentId());
-        if (isDuplicate) {
-            throw new IllegalArgumentException("이미 장바구니에 추가된 투어입니다.");
-        }
-        System.out.println(tourResponse);
-        Tour tour = Tour.builder()
-                .contentId(tourResponse.getContentId())
-                .contentTypeId(tourResponse.getContentTypeId())
-                .title(tourResponse.getTitle())
-                .address(tourResponse.getAddress())
-                .address2(tourResponse.getAddress2())
-                .zipcode(tourResponse.getZipcode())
-                .areaCode(tourResponse.getAreaCode())
-                .cat1(tourResponse.getCat1())
-                .cat2(tourResponse.getCat2())
-                .cat3(tourResponse.getCat3())
-                .createdTime(tourResponse.getCreatedTime())
-                .firstImage(tourResponse.getFirstImage())
-                .firstImage2(tourResponse.getFirstImage2())
-                .cpyrhtDivCd(tourResponse.getCpyrhtDivCd())
-                .mapX(tourResponse.getMapX())
-                .mapY(tourResponse.getMapY())
-                .mlevel(tourResponse.getMlevel())
-                .modifiedTime(tourResponse.getModifiedTime())
-                .sigunguCode(tourResponse.getSigunguCode())
-                .tel(tourResponse.getTel())
-                .overview("") // 현재 TourSearchResponse에는 overview가 없으므로 기본값
-                .lDongRegnCd(tourResponse.getLDongRegnCd())
-                .lDongSignguCd(tourResponse.getLDongSignguCd())
-                .lclsSystm1(tourResponse.getLclsSystm1())
-                .lclsSystm2(tourResponse.getLclsSystm2())
-                .lclsSystm3(tourResponse.getLclsSystm3())
-                .longitude(tourResponse.getMapX() != null && !tourResponse.getMapX().isEmpty()
-                        ? Double.valueOf(tourResponse.getMapX()) : null)
-                .latitude(tourResponse.getMapY() != null && !tourResponse.getMapY().isEmpty()
-                        ? Double.valueOf(tourResponse.getMapY()) : null)
-                .image(tourResponse.getFirstImage())
-                .tema("") // 필요에 따라 설정
-                .cartId(cart)
-                .build();
-
-        Tour savedTour = tourRepository.save(tour);
-
-        if (cart.getLDongRegnCd() == null || cart.getLDongRegnCd().isEmpty()) {
-            cart = Cart.builder()
-                    .cartId(cart.getCartId())
-                    .lDongRegnCd("11")
-                    .lDongSignguCd("110")
-                    .userId(cart.getUserId())
-                    .build();
-            cartRepository.save(cart);
-        }
-
-        return CartResponse.AddTourResponse.builder()
-                .tourId(savedTour.getTourId())
-                .message("투어가 장바구니에 추가되었습니다.")
-                .build();
+        CartResponse.AddTourResponse response = insertTour(userId, cart, contentId);
+        cart.applyDefaultRegionIfEmpty();
+        return response;
     }
 
     @Transactional
     public void removeTourFromCart(String userIdString, UUID cartId, UUID tourId) {
         UUID userId = UUID.fromString(userIdString);
+        cartViewCache.evictAfterCommit(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         Cart cart = cartRepository.findByCartIdAndUserId(cartId, user)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다."));
 
-        tourRepository.deleteByCartIdAndTourId(cart, tourId);
+        tourRepository.findByCartIdAndTourId(cart, tourId).ifPresent(tour -> {
+            tourRepository.delete(tour);
+            cartRepository.subtractTour(cartId, priceOf(tour));
+            cartChangeLog.record(userId, CartChangeType.TOUR_REMOVED, cartId, tourId, tour.getContentId());
+        });
         log.info("투어 삭제 완료 - cartId: {}, tourId: {}", cartId, tourId);
     }
 
     @Transactional
     public void clearCart(String userIdString) {
         UUID userId = UUID.fromString(userIdString);
+        cartViewCache.evictAfterCommit(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -177,70 +126,41 @@ public class CartService {
                 .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다."));
 
         tourRepository.deleteAllByCartId(cart);
+        cartRepository.clearTotals(cart.getCartId());
+        cartChangeLog.record(userId, CartChangeType.CART_CLEARED, cart.getCartId(), null, null);
         log.info("장바구니 전체 삭제 완료 - userId: {}", userId);
     }
 
-    @Transactional(readOnly = true)
-    public Page<CartResponse.TourSearchResponse> searchTours(String keyword, String region, String category, Pageable pageable) {
-        return tourApiClient.searchTours(keyword, region, category, pageable);
-    }
-
-    @Transactional(readOnly = true)
-    public Page<CartResponse.TourSearchResponse> searchPlacesByRegion(String regionCode, Pageable pageable) {
-        return tourApiClient.searchPlacesByRegion(regionCode, pageable);
-    }
-
-    @Transactional(readOnly = true)
-    public Page<CartResponse.TourSearchResponse> searchPlacesByRegionAndTheme(String regionCode, String theme, Pageable pageable) {
-        return tourApiClient.searchPlacesByRegionAndTheme(regionCode, theme, pageable);
-    }
-
-    @Transactional(readOnly = true)
-    public Page<CartResponse.TourSearchResponse> searchPlacesByLDong(String lDongRegnCd, String lDongSignguCd, Pageable pageable) {
-        return tourApiClient.searchPlacesByLDong(lDongRegnCd, lDongSignguCd, pageable);
+    /**
+     * 투어 상세 조회 (논블로킹)
+     * 장바구니 포함 여부 확인(JPA)은 boundedElastic에서 수행합니다.
+     */
+    public Mono<CartResponse.TourDetailResponse> getTourDetailAsync(String contentId, String userIdString) {
+        return tourApiClient.getTourDetailAsync(contentId)
+                .flatMap(detailResponse -> Mono.fromCallable(() -> isInUserCart(userIdString, contentId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .map(isInCart -> toTourDetailResponse(detailResponse, isInCart)));
     }
 
-    @Transactional(readOnly = true)
-    public Page<CartResponse.TourSearchResponse> searchPlacesByLDongAndContentType(String lDongRegnCd, String lDongSignguCd, Integer contentTypeId, Pageable pageable) {
-        return tourApiClient.searchPlacesByLDongAndContentType(lDongRegnCd, lDongSignguCd, contentTypeId, pageable);
-    }
-
-    @Transactional(readOnly = true)
-    public CartResponse.TourDetailResponse getTourDetail(String contentId, String userIdString) {
-        CartResponse.TourDetailResponse detailResponse = tourApiClient.getTourDetail(contentId);
-        
-        if (userIdString != null) {
-            try {
-                UUID userId = UUID.fromString(userIdString);
-                User user = userRepository.findById(userId).orElse(null);
-                
-                if (user != null) {
-                    Cart cart = cartRepository.findByUserId(user).orElse(null);
-                    if (cart != null) {
-                        boolean isInCart = tourRepository.existsByCartIdAndContentId(cart, contentId);
-                        return CartResponse.TourDetailResponse.builder()
-                                .contentId(detailResponse.getContentId())
-                                .contentTypeId(detailResponse.getContentTypeId())
-                                .title(detailResponse.getTitle())
-                                .address(detailResponse.getAddress())
-                                .region(detailResponse.getRegion())
-                                .theme(detailResponse.getTheme())
-                                .latitude(detailResponse.getLatitude())
-                                .longitude(detailResponse.getLongitude())
-                                .image(detailResponse.getImage())
-                                .tel(detailResponse.getTel())
-                                .homepage(detailResponse.getHomepage())
-                                .overview(detailResponse.getOverview())
-                                .isFavorite(false) // TODO: 즐겨찾기 기능 구현 시 수정
-                                .isInCart(isInCart)
-                                .build();
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("사용자 정보 확인 중 오류: {}", e.getMessage());
+    private boolean isInUserCart(String userIdString, String contentId) {
+        if (userIdString == null) {
+            return false;
+        }
+        try {
+            UUID userId = UUID.fromString(userIdString);
+            User user = userRepository.findById(userId).orElse(null);
+            if (user == null) {
+                return false;
             }
+            Cart cart = cartRepository.findByUserId(user).orElse(null);
+            return cart != null && tourRepository.existsByCartIdAndContentId(cart, contentId);
+        } catch (Exception e) {
+            log.warn("사용자 정보 확인 중 오류: {}", e.getMessage());
+            return false;
         }
-        
+    }
+
+    private CartResponse.TourDetailResponse toTourDetailResponse(CartResponse.TourDetailResponse detailResponse, boolean isInCart) {
         return CartResponse.TourDetailResponse.builder()
                 .contentId(detailResponse.getContentId())
                 .contentTypeId(detailResponse.getContentTypeId())
@@ -254,63 +174,51 @@ public class CartService {
                 .tel(detailResponse.getTel())
                 .homepage(detailResponse.getHomepage())
                 .overview(detailResponse.getOverview())
-                .isFavorite(false)
-                .isInCart(false)
+                .isFavorite(false) // TODO: 즐겨찾기 기능 구현 시 수정
+                .isInCart(isInCart)
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public Page<CartResponse.TourSearchResponse> searchToursByTheme(String theme, String region, Pageable pageable) {
-        return tourApiClient.searchToursByTheme(theme, region, pageable);
+    // ========== 논블로킹 검색 (트랜잭션 없이 TourApiClient의 Mono를 그대로 반환) ==========
+
+    public Mono<Page<CartResponse.TourSearchResponse>> searchToursAsync(String keyword, String region, String category, Pageable pageable) {
+        return tourApiClient.searchToursAsync(keyword, region, category, pageable);
+    }
+
+    public Mono<Page<CartResponse.TourSearchResponse>> searchToursByThemeAsync(String theme, String region, Pageable pageable) {
+        return tourApiClient.searchToursByThemeAsync(theme, region, pageable);
+    }
+
+    public Mono<Page<CartResponse.TourSearchResponse>> searchPlacesByRegionAsync(String regionCode, Pageable pageable) {
+        return tourApiClient.searchPlacesByRegionAsync(regionCode, pageable);
+    }
+
+    public Mono<Page<CartResponse.TourSearchResponse>> searchPlacesByRegionAndThemeAsync(String regionCode, String theme, Pageable pageable) {
+        return tourApiClient.searchPlacesByRegionAndThemeAsync(regionCode, theme, pageable);
+    }
+
+    public Mono<Page<CartResponse.TourSearchResponse>> searchPlacesByLDongAsync(String lDongRegnCd, String lDongSignguCd, Pageable pageable) {
+        return tourApiClient.searchPlacesByLDongAsync(lDongRegnCd, lDongSignguCd, pageable);
+    }
+
+    public Mono<Page<CartResponse.TourSearchResponse>> searchPlacesByLDongAndContentTypeAsync(String lDongRegnCd, String lDongSignguCd, Integer contentTypeId, Pageable pageable) {
+        return tourApiClient.searchPlacesByLDongAndContentTypeAsync(lDongRegnCd, lDongSignguCd, contentTypeId, pageable);
     }
 
     @Transactional
     public CartResponse.AddTourResponse addTourToCartByContentId(String userIdString, String contentId) {
         UUID userId = UUID.fromString(userIdString);
+        cartViewCache.evictAfterCommit(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         Cart cart = cartRepository.findByUserId(user)
                 .orElseGet(() -> createNewCart(user));
 
-        boolean isDuplicate = tourRepository.existsByCartIdAndContentId(cart, contentId);
-        if (isDuplicate) {
-            throw new IllegalArgumentException("이미 장바구니에 추가된 투어입니다.");
-        }
-
-        // TourAPI에서 상세 정보 가져오기
-        CartResponse.TourDetailResponse tourDetail = tourApiClient.getTourDetail(contentId);
-
-        Tour tour = Tour.builder()
-                .contentId(contentId)
-                .contentTypeId(tourDetail.getContentTypeId())
-                .title(tourDetail.getTitle())
-                .address(tourDetail.getAddress())
-                .longitude(tourDetail.getLongitude())
-                .latitude(tourDetail.getLatitude())
-                .image(tourDetail.getImage())
-                .tel(tourDetail.getTel())
-                .overview(tourDetail.getOverview())
-                .tema(tourDetail.getTheme())
-                .cartId(cart)
-                .build();
-
-        Tour savedTour = tourRepository.save(tour);
-
-        if (cart.getLDongRegnCd() == null || cart.getLDongRegnCd().isEmpty()) {
-            cart = Cart.builder()
-                    .cartId(cart.getCartId())
-                    .lDongRegnCd("11")
-                    .lDongSignguCd("110")
-                    .userId(cart.getUserId())
-                    .build();
-            cartRepository.save(cart);
-        }
-
-        return CartResponse.AddTourResponse.builder()
-                .tourId(savedTour.getTourId())
-                .message("투어가 장바구니에 추가되었습니다.")
-                .build();
+        registerPlaceByContentId(contentId);
+        CartResponse.AddTourResponse response = insertTour(userId, cart, contentId);
+        cart.applyDefaultRegionIfEmpty();
+        return response;
     }
 
     private Cart createNewCart(User user) {
@@ -318,8 +226,11 @@ public class CartService {
                 .userId(user)
                 .lDongRegnCd("11")
                 .lDongSignguCd("110")
+                .totalExpense(BigDecimal.ZERO)
                 .build();
-        return cartRepository.save(cart);
+        Cart savedCart = cartRepository.save(cart);
+        cartChangeLog.record(user.getUserId(), CartChangeType.CART_CREATED, savedCart.getCartId(), null, null);
+        return savedCart;
     }
 
     private String extractRegionFromAddress(String address) {
@@ -333,6 +244,7 @@ public class CartService {
     @Transactional
     public CartResponse.CartDetailResponse createCart(String userIdString, String lDongRegnCd, String lDongSignguCd) {
         UUID userId = UUID.fromString(userIdString);
+        cartViewCache.evictAfterCommit(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -340,8 +252,10 @@ public class CartService {
                 .userId(user)
                 .lDongRegnCd(lDongRegnCd != null ? lDongRegnCd : "11")
                 .lDongSignguCd(lDongSignguCd != null ? lDongSignguCd : "110")
+                .totalExpense(BigDecimal.ZERO)
                 .build();
         Cart savedCart = cartRepository.save(cart);
+        cartChangeLog.record(userId, CartChangeType.CART_CREATED, savedCart.getCartId(), null, null);
 
         return CartResponse.CartDetailResponse.builder()
                 .cartId(savedCart.getCartId())
@@ -353,92 +267,225 @@ public class CartService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public List<CartResponse.CartDetailResponse> getUserCarts(String userIdString) {
-        UUID userId = UUID.fromString(userIdString);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        List<Cart> carts = cartRepository.findAllByUserId(user);
-
-        return carts.stream()
-                .map(cart -> {
-                    List<Tour> tours = tourRepository.findByCartId(cart);
-                    
-                    List<CartResponse.TourInfo> tourInfos = tours.stream()
-                            .map(tour -> CartResponse.TourInfo.builder()
-                                    .tourId(tour.getTourId())
-                                    .contentId(tour.getContentId())
-                                    .title(tour.getTitle())
-                                    .image(tour.getImage())
-                                    .tema(tour.getTema())
-                                    .longitude(tour.getLongitude())
-                                    .latitude(tour.getLatitude())
-                                    .address(tour.getAddress())
-                                    .category(tour.getCategory())
-                                    .price(tour.getPrice())
-                                    .build())
-                            .collect(Collectors.toList());
-
-                    long totalPrice = tourInfos.stream()
-                            .mapToLong(t -> t.getPrice() != null ? t.getPrice() : 0)
-                            .sum();
-
-                    return CartResponse.CartDetailResponse.builder()
-                            .cartId(cart.getCartId())
-                            .lDongRegnCd(cart.getLDongRegnCd())
-                .lDongSignguCd(cart.getLDongSignguCd())
-                            .tours(tourInfos)
-                            .totalCount(tourInfos.size())
-                            .totalPrice(totalPrice)
-                            .build();
-                })
-                .collect(Collectors.toList());
+    public CartResponse.VersionedCarts getUserCarts(String userIdString) {
+        return getCartViews(UUID.fromString(userIdString));
     }
 
-    @Transactional
     public CartResponse.CartDetailResponse getCartById(String userIdString, UUID cartId) {
         UUID userId = UUID.fromString(userIdString);
+
+        // 캐시된 장바구니 목록에 있으면 DB 조회 없이 응답
+        Optional<CartResponse.CartDetailResponse> cached = cartViewCache.get(userId, cartChangeLog.currentVersion(userId))
+                .flatMap(view -> view.getCarts().stream()
+                        .filter(cart -> cartId.equals(cart.getCartId()))
+                        .findFirst());
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         Cart cart = cartRepository.findByCartIdAndUserId(cartId, user)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다."));
 
-        List<Tour> tours = tourRepository.findByCartId(cart);
-
-        List<CartResponse.TourInfo> tourInfos = tours.stream()
-                .map(tour -> CartResponse.TourInfo.builder()
-                        .tourId(tour.getTourId())
-                        .contentId(tour.getContentId())
-                        .title(tour.getTitle())
-                        .image(tour.getImage())
-                        .tema(tour.getTema())
-                        .longitude(tour.getLongitude())
-                        .latitude(tour.getLatitude())
-                        .address(tour.getAddress())
-                        .category(tour.getCategory())
-                        .price(tour.getPrice())
-                        .build())
+        List<CartResponse.TourInfo> tourInfos = tourRepository.findByCartId(cart).stream()
+                .map(this::toTourInfo)
                 .collect(Collectors.toList());
-
-        long totalPrice = tourInfos.stream()
-                .mapToLong(t -> t.getPrice() != null ? t.getPrice() : 0)
-                .sum();
+        boolean totalsMissing = cart.getTotalExpense() == null;
 
         return CartResponse.CartDetailResponse.builder()
                 .cartId(cart.getCartId())
                 .lDongRegnCd(cart.getLDongRegnCd())
                 .lDongSignguCd(cart.getLDongSignguCd())
                 .tours(tourInfos)
-                .totalCount(tourInfos.size())
-                .totalPrice(totalPrice)
+                .totalCount(totalsMissing ? tourInfos.size() : cart.getTourCount())
+                .totalPrice(totalsMissing ? sumPrices(tourInfos) : cart.getTotalExpense().longValue())
                 .build();
     }
 
+    /**
+     * 장바구니 투어를 공간 클러스터로 묶은 응답 (캐시된 조회 결과를 그대로 가공)
+     * 좌표가 없는 투어는 클러스터에 넣지 않고 tours에 남깁니다.
+     */
+    public CartResponse.CartDetailResponse withClusters(CartResponse.CartDetailResponse cart, String cluster,
+                                                        int precision, double gridSize) {
+        List<CartResponse.TourInfo> tours = cart.getTours() != null ? cart.getTours() : List.of();
+        Map<Boolean, List<CartResponse.TourInfo>> partitioned = tours.stream()
+                .collect(Collectors.partitioningBy(TourClusterer::hasValidCoordinates));
+
+        return CartResponse.CartDetailResponse.builder()
+                .cartId(cart.getCartId())
+                .lDongRegnCd(cart.getLDongRegnCd())
+                .lDongSignguCd(cart.getLDongSignguCd())
+                .tours(partitioned.get(false))
+                .totalCount(cart.getTotalCount())
+                .totalPrice(cart.getTotalPrice())
+                .clusters(tourClusterer.cluster(partitioned.get(true), CartRequest.ClusterMode.from(cluster),
+                        precision, gridSize))
+                .build();
+    }
+
+    /**
+     * 사용자의 현재 장바구니 버전 (ETag 용, Redis 캐시 적중 시 DB 조회 없음)
+     */
+    public long getCartVersion(String userIdString) {
+        return cartChangeLog.currentVersion(UUID.fromString(userIdString));
+    }
+
+    /**
+     * since 버전 이후의 장바구니 변경 내역
+     * 변경 내역이 정리되어 이어지지 않거나 너무 많으면 resetRequired로 전체 재조회를 요청합니다.
+     */
+    @Transactional(readOnly = true)
+    public CartResponse.CartChangesResponse getCartChanges(String userIdString, long since) {
+        UUID userId = UUID.fromString(userIdString);
+        long currentVersion = cartChangeLog.currentVersion(userId);
+        if (since == currentVersion) {
+            return CartResponse.CartChangesResponse.builder()
+                    .version(currentVersion)
+                    .changes(List.of())
+                    .carts(List.of())
+                    .build();
+        }
+
+        List<CartChange> changes = since > currentVersion
+                ? List.of()
+                : cartChangeLog.findChangesAfter(userId, since, CHANGES_MAX_SIZE + 1);
+        if (changes.isEmpty() || changes.size() > CHANGES_MAX_SIZE || changes.get(0).getVersion() != since + 1) {
+            return CartResponse.CartChangesResponse.builder()
+                    .version(currentVersion)
+                    .resetRequired(true)
+                    .changes(List.of())
+                    .carts(List.of())
+                    .build();
+        }
+
+        List<UUID> changedTourIds = changes.stream()
+                .filter(change -> hasTourInfo(change.getChangeType()))
+                .map(CartChange::getTourId)
+                .distinct()
+                .toList();
+        Map<UUID, CartResponse.TourInfo> changedTours = changedTourIds.isEmpty()
+                ? Map.of()
+                : tourRepository.findAllWithPlaceByTourIdIn(changedTourIds).stream()
+                        .collect(Collectors.toMap(Tour::getTourId, this::toTourInfo));
+
+        List<UUID> changedCartIds = changes.stream()
+                .map(CartChange::getCartId)
+                .distinct()
+                .toList();
+        List<CartResponse.CartTotals> carts = cartRepository.findAllById(changedCartIds).stream()
+                .map(cart -> CartResponse.CartTotals.builder()
+                        .cartId(cart.getCartId())
+                        .lDongRegnCd(cart.getLDongRegnCd())
+                        .lDongSignguCd(cart.getLDongSignguCd())
+                        .totalCount(cart.getTourCount())
+                        .totalPrice(cart.getTotalExpense() != null ? cart.getTotalExpense().longValue() : 0L)
+                        .build())
+                .toList();
+
+        return CartResponse.CartChangesResponse.builder()
+                .version(changes.get(changes.size() - 1).getVersion())
+                .changes(changes.stream()
+                        .map(change -> CartResponse.CartChangeItem.builder()
+                                .version(change.getVersion())
+                                .type(change.getChangeType())
+                                .cartId(change.getCartId())
+                                .tourId(change.getTourId())
+                                .contentId(change.getContentId())
+                                .tour(hasTourInfo(change.getChangeType())
+                                        ? changedTours.get(change.getTourId()) : null)
+                                .build())
+                        .toList())
+                .carts(carts)
+                .build();
+    }
+
+    private boolean hasTourInfo(CartChangeType type) {
+        return type == CartChangeType.TOUR_ADDED || type == CartChangeType.TOUR_UPDATED;
+    }
+
+    /**
+     * 사용자별 장바구니 목록 (캐시 → DB 순으로 조회, DB에서 만든 결과는 캐시에 저장)
+     * 버전을 DB 조회보다 먼저 읽어 저장하므로, 목록에 붙는 버전은 실제 데이터보다 새로울 수 없습니다.
+     */
+    private CartResponse.VersionedCarts getCartViews(UUID userId) {
+        long version = cartChangeLog.currentVersion(userId);
+        return cartViewCache.get(userId, version).orElseGet(() -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+            CartResponse.VersionedCarts view = new CartResponse.VersionedCarts(version, buildCartDetails(user));
+            cartViewCache.put(userId, view);
+            return view;
+        });
+    }
+
+    /**
+     * 사용자의 전체 장바구니 조회
+     * 장바구니별 투어 수/가격 합계는 Cart 행에 저장된 값을 그대로 쓰고(보정 전이면 투어로 계산), 투어 목록은 IN 쿼리 1회로 조회합니다.
+     */
+    private List<CartResponse.CartDetailResponse> buildCartDetails(User user) {
+        List<CartSummaryDto> summaries = cartRepository.findSummariesByUser(user);
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+
+        // 합계 보정 전(total_expense가 null)인 장바구니도 있으므로 투어 수로 건너뛰지 않고 한 번에 조회
+        List<UUID> cartIds = summaries.stream()
+                .map(CartSummaryDto::getCartId)
+                .toList();
+
+        Map<UUID, List<CartResponse.TourInfo>> toursByCart = tourRepository.findAllByCartIds(cartIds).stream()
+                .collect(Collectors.groupingBy(tour -> tour.getCartId().getCartId(),
+                        Collectors.mapping(this::toTourInfo, Collectors.toList())));
+
+        return summaries.stream()
+                .map(summary -> {
+                    List<CartResponse.TourInfo> tours = toursByCart.getOrDefault(summary.getCartId(), List.of());
+                    boolean totalsMissing = summary.getTotalExpense() == null;
+                    return CartResponse.CartDetailResponse.builder()
+                            .cartId(summary.getCartId())
+                            .lDongRegnCd(summary.getLDongRegnCd())
+                            .lDongSignguCd(summary.getLDongSignguCd())
+                            .tours(tours)
+                            .totalCount(totalsMissing ? tours.size() : summary.getTourCount())
+                            .totalPrice(totalsMissing ? sumPrices(tours) : summary.getTotalExpense().longValue())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // 합계 보정 전 장바구니는 조회한 투어로 계산
+    private long sumPrices(List<CartResponse.TourInfo> tours) {
+        return tours.stream()
+                .mapToLong(tour -> tour.getPrice() != null ? tour.getPrice() : 0L)
+                .sum();
+    }
+
+    private CartResponse.TourInfo toTourInfo(Tour tour) {
+        // 이관 전 데이터 등으로 장소 정보가 없으면 contentId만 채움
+        Place place = tour.getPlace();
+        CartResponse.TourInfo.TourInfoBuilder builder = CartResponse.TourInfo.builder()
+                .tourId(tour.getTourId())
+                .contentId(tour.getContentId())
+                .category(tour.getCategory())
+                .price(tour.getPrice());
+        if (place != null) {
+            builder.title(place.getTitle())
+                    .image(place.getImage())
+                    .tema(place.getTema())
+                    .longitude(place.getLongitude())
+                    .latitude(place.getLatitude())
+                    .address(place.getAddress());
+        }
+        return builder.build();
+    }
+
     @Transactional
     public void deleteCart(String userIdString, UUID cartId) {
         UUID userId = UUID.fromString(userIdString);
+        cartViewCache.evictAfterCommit(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -447,69 +494,48 @@ public class CartService {
 
         tourRepository.deleteAllByCartId(cart);
         cartRepository.delete(cart);
+        cartChangeLog.record(userId, CartChangeType.CART_DELETED, cartId, null, null);
         log.info("장바구니 삭제 완료 - cartId: {}", cartId);
     }
 
     @Transactional
     public CartResponse.AddTourResponse addTourToSpecificCart(String userIdString, UUID cartId, CartResponse.TourSearchResponse tourResponse) {
         UUID userId = UUID.fromString(userIdString);
+        cartViewCache.evictAfterCommit(userId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         Cart cart = cartRepository.findByCartIdAndUserId(cartId, user)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다."));
 
-        boolean isDuplicate = tourRepository.existsByCartIdAndContentId(cart, tourResponse.getContentId());
-        if (isDuplicate) {
-            throw new IllegalArgumentException("이미 장바구니에 추가된 투어입니다.");
-        }
+        // 요청 본문은 contentId만 사용 (공용 place 정보는 서버가 조회한 값으로만 채움)
+        registerPlaceByContentId(tourResponse.getContentId());
+        return insertTour(userId, cart, tourResponse.getContentId());
+    }
 
-        Tour tour = Tour.builder()
-                .contentId(tourResponse.getContentId())
-                .contentTypeId(tourResponse.getContentTypeId())
-                .title(tourResponse.getTitle())
-                .address(tourResponse.getAddress())
-                .address2(tourResponse.getAddress2())
-                .zipcode(tourResponse.getZipcode())
-                .areaCode(tourResponse.getAreaCode())
-                .cat1(tourResponse.getCat1())
-                .cat2(tourResponse.getCat2())
-                .cat3(tourResponse.getCat3())
-                .createdTime(tourResponse.getCreatedTime())
-                .firstImage(tourResponse.getFirstImage())
-                .firstImage2(tourResponse.getFirstImage2())
-                .cpyrhtDivCd(tourResponse.getCpyrhtDivCd())
-                .mapX(tourResponse.getMapX())
-                .mapY(tourResponse.getMapY())
-                .mlevel(tourResponse.getMlevel())
-                .modifiedTime(tourResponse.getModifiedTime())
-                .sigunguCode(tourResponse.getSigunguCode())
-                .tel(tourResponse.getTel())
-                .overview("")
-                .lDongRegnCd(tourResponse.getLDongRegnCd())
-                .lDongSignguCd(tourResponse.getLDongSignguCd())
-                .lclsSystm1(tourResponse.getLclsSystm1())
-                .lclsSystm2(tourResponse.getLclsSystm2())
-                .lclsSystm3(tourResponse.getLclsSystm3())
-                .longitude(tourResponse.getMapX() != null && !tourResponse.getMapX().isEmpty()
-                        ? Double.valueOf(tourResponse.getMapX()) : null)
-                .latitude(tourResponse.getMapY() != null && !tourResponse.getMapY().isEmpty()
-                        ? Double.valueOf(tourResponse.getMapY()) : null)
-                .image(tourResponse.getFirstImage())
-                .tema("")
-                .cartId(cart)
-                .build();
+    @Transactional
+    public CartResponse.AddTourResponse addTourToSpecificCartByContentId(String userIdString, UUID cartId, String contentId) {
+        UUID userId = UUID.fromString(userIdString);
+        cartViewCache.evictAfterCommit(userId);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Tour savedTour = tourRepository.save(tour);
+        Cart cart = cartRepository.findByCartIdAndUserId(cartId, user)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다."));
 
-        return CartResponse.AddTourResponse.builder()
-                .tourId(savedTour.getTourId())
-                .message("투어가 장바구니에 추가되었습니다.")
-                .build();
+        registerPlaceByContentId(contentId);
+        return insertTour(userId, cart, contentId);
     }
 
-    @Transactional
-    public CartResponse.AddTourResponse addTourToSpecificCartByContentId(String userIdString, UUID cartId, String contentId) {
+    /**
+     * 특정 장바구니에 투어 일괄 추가
+     * 1. 이미 담긴 contentId는 IN 쿼리 한 번으로 걸러냄
+     * 2. 새로 담을 장소의 상세 정보를 동시에 조회 (외부 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 수행)
+     *    요청 본문의 검색 결과는 contentId만 사용하며, 공용 place 정보는 서버의 캐시/API 조회 결과로만 채움
+     * 3. 한 트랜잭션에서 장소 등록(INSERT IGNORE)과 saveAll (JDBC 배치 insert, JpaConfig 참고)
+     */
+    public CartResponse.BulkAddTourResponse addToursToSpecificCart(String userIdString, UUID cartId,
+                                                                   CartRequest.BulkAddTourRequest request) {
         UUID userId = UUID.fromString(userIdString);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -517,38 +543,143 @@ public class CartService {
         Cart cart = cartRepository.findByCartIdAndUserId(cartId, user)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다."));
 
-        boolean isDuplicate = tourRepository.existsByCartIdAndContentId(cart, contentId);
-        if (isDuplicate) {
-            throw new IllegalArgumentException("이미 장바구니에 추가된 투어입니다.");
+        // 요청 내 중복 제거 (검색 결과가 함께 와도 contentId만 사용하고, 공용 place 정보는 서버가 조회한 값으로만 채움)
+        Set<String> requested = new LinkedHashSet<>();
+        if (request.getTours() != null) {
+            request.getTours().stream()
+                    .filter(tour -> tour != null && tour.getContentId() != null && !tour.getContentId().isBlank())
+                    .forEach(tour -> requested.add(tour.getContentId()));
+        }
+        if (request.getContentIds() != null) {
+            request.getContentIds().stream()
+                    .filter(contentId -> contentId != null && !contentId.isBlank())
+                    .forEach(requested::add);
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("추가할 투어가 없습니다.");
+        }
+        if (requested.size() > BULK_ADD_MAX_SIZE) {
+            throw new IllegalArgumentException("한 번에 추가할 수 있는 투어는 최대 " + BULK_ADD_MAX_SIZE + "개입니다.");
+        }
+        List<String> invalidContentIds = requested.stream()
+                .filter(contentId -> !Place.isValidContentId(contentId))
+                .toList();
+        if (!invalidContentIds.isEmpty()) {
+            throw new IllegalArgumentException("유효하지 않은 contentId 입니다: " + invalidContentIds);
         }
 
-        CartResponse.TourDetailResponse tourDetail = tourApiClient.getTourDetail(contentId);
+        Set<String> existing = new HashSet<>(
+                tourRepository.findContentIdsByCartIdAndContentIdIn(cart, requested));
+
+        List<String> toAdd = requested.stream()
+                .filter(contentId -> !existing.contains(contentId))
+                .toList();
+
+        // 캐시(상세/검색 결과)에 있으면 바로, 없으면 상세 API를 동시에 조회
+        Map<String, CartResponse.TourDetailResponse> details = toAdd.isEmpty()
+                ? Map.of()
+                : Flux.fromIterable(toAdd)
+                        .flatMap(contentId -> tourApiClient.findTourDetailAsync(contentId)
+                                .map(detail -> Map.entry(contentId, detail))
+                                .onErrorResume(e -> Mono.empty()), BULK_ADD_DETAIL_CONCURRENCY)
+                        .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                        .block();
+
+        // 상세 조회에 실패한 장소는 대체 응답을 공용 place에 남기지 않도록 contentId만 등록하고 커밋 후 비동기로 채움
+        List<String> placeholders = toAdd.stream()
+                .filter(contentId -> !details.containsKey(contentId))
+                .toList();
+
+        List<Place> places = toAdd.stream()
+                .map(contentId -> details.containsKey(contentId)
+                        ? Place.from(contentId, details.get(contentId))
+                        : Place.placeholder(contentId))
+                .toList();
+
+        // 장소는 아직 없는 것만 등록하고, 장바구니에는 연결 행만 저장
+        List<Tour> tours = toAdd.stream()
+                .map(contentId -> linkTour(contentId, cart))
+                .toList();
+
+        List<UUID> tourIds = List.of();
+        if (!tours.isEmpty()) {
+            try {
+                tourIds = transactionTemplate.execute(status -> {
+                    cartViewCache.evictAfterCommit(userId);
+                    placeService.registerIfAbsent(places);
+                    List<Tour> saved = tourRepository.saveAll(tours);
+                    cartRepository.addTotals(cartId, saved.size(), saved.stream().mapToLong(this::priceOf).sum());
+                    saved.forEach(tour -> cartChangeLog.record(userId, CartChangeType.TOUR_ADDED,
+                            cartId, tour.getTourId(), tour.getContentId()));
+                    placeholders.forEach(tourDetailEnrichmentService::enrichAfterCommit);
+                    return saved.stream()
+                            .map(Tour::getTourId)
+                            .toList();
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 동시에 같은 투어가 추가된 경우 (uk_cart_content)
+                throw new IllegalArgumentException("이미 장바구니에 추가된 투어가 포함되어 있습니다.");
+            }
+        }
 
-        Tour tour = Tour.builder()
-                .contentId(contentId)
-                .contentTypeId(tourDetail.getContentTypeId())
-                .title(tourDetail.getTitle())
-                .address(tourDetail.getAddress())
-                .longitude(tourDetail.getLongitude())
-                .latitude(tourDetail.getLatitude())
-                .image(tourDetail.getImage())
-                .tel(tourDetail.getTel())
-                .overview(tourDetail.getOverview())
-                .tema(tourDetail.getTheme())
-                .lDongRegnCd(tourDetail.getLDongRegnCd())
-                .lDongSignguCd(tourDetail.getLDongSignguCd())
-                .firstImage(tourDetail.getImage())
-                .cartId(cart)
+        log.info("투어 일괄 추가 완료 - cartId: {}, 추가: {}, 중복: {}", cartId, tourIds.size(), existing.size());
+
+        return CartResponse.BulkAddTourResponse.builder()
+                .tourIds(tourIds)
+                .addedCount(tourIds.size())
+                .skippedContentIds(requested.stream().filter(existing::contains).toList())
+                .message(tourIds.size() + "개의 투어가 장바구니에 추가되었습니다.")
                 .build();
+    }
+
+    /**
+     * 투어 추가 시의 장소 등록 (요청 본문의 장소 정보는 쓰지 않고 contentId만 사용)
+     * 서버의 캐시(상세/검색 결과)에 상세 정보가 있으면 바로 등록하고, 없으면 contentId만 등록한 뒤 커밋 후 비동기로 채웁니다.
+     * (외부 API 5종 호출 동안 DB 커넥션을 잡고 있지 않도록)
+     */
+    private void registerPlaceByContentId(String contentId) {
+        if (!Place.isValidContentId(contentId)) {
+            throw new IllegalArgumentException("유효하지 않은 contentId 입니다: " + contentId);
+        }
+        Optional<CartResponse.TourDetailResponse> cachedDetail = tourApiClient.getCachedTourDetail(contentId);
+        if (cachedDetail.isPresent()) {
+            placeService.registerIfAbsent(List.of(Place.from(contentId, cachedDetail.get())));
+            return;
+        }
+        placeService.registerIfAbsent(List.of(Place.placeholder(contentId)));
+        tourDetailEnrichmentService.enrichAfterCommit(contentId);
+    }
 
-        Tour savedTour = tourRepository.save(tour);
+    /**
+     * 장바구니에 contentId 연결 행 추가 (장소 정보는 호출 전에 place에 등록)
+     * 중복은 존재 확인 없이 uk_cart_content 제약으로 거르므로 동시에 같은 투어를 추가해도 한 건만 저장됩니다.
+     */
+    private CartResponse.AddTourResponse insertTour(UUID userId, Cart cart, String contentId) {
+        UUID tourId = UUID.randomUUID();
+        if (!tourRepository.insertIfAbsent(tourId, contentId, cart)) {
+            throw new IllegalArgumentException("이미 장바구니에 추가된 투어입니다.");
+        }
+        // 연결 행에는 가격이 없으므로 투어 수만 증가
+        cartRepository.addTotals(cart.getCartId(), 1, 0L);
+        cartChangeLog.record(userId, CartChangeType.TOUR_ADDED, cart.getCartId(), tourId, contentId);
 
         return CartResponse.AddTourResponse.builder()
-                .tourId(savedTour.getTourId())
+                .tourId(tourId)
                 .message("투어가 장바구니에 추가되었습니다.")
                 .build();
     }
 
+    private long priceOf(Tour tour) {
+        return tour.getPrice() != null ? tour.getPrice() : 0L;
+    }
+
+    private Tour linkTour(String contentId, Cart cart) {
+        return Tour.builder()
+                .contentId(contentId)
+                .cartId(cart)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public Cart findCartById(UUID cartId) {
         return cartRepository.findById(cartId)
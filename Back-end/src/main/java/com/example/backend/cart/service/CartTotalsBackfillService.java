@@ -0,0 +1,51 @@
+package com.example.backend.cart.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * cart.tour_count / total_expense 컬럼 추가 전에 담긴 투어를 기준으로 합계를 채움
+ * - 요청을 받기 전(@PostConstruct)에 실행하여, 보정 전 합계로 만든 장바구니 응답이 캐시되지 않도록 함
+ *   (실패해도 조회는 total_expense가 null인 장바구니의 합계를 투어로 계산하므로 잘못된 값을 응답하지 않음)
+ * - cart.totals.backfill-enabled (기본 true): 기동 시 합계를 아직 계산하지 않은(total_expense가 null인) 장바구니만 계산
+ * - 새 장바구니는 total_expense 0으로 만들어지고 이후 증감은 CartRepository의 UPDATE 문으로만 하므로, 한 번 채운 행은 다시 계산하지 않음
+ */
+@Service
+@DependsOn("entityManagerFactory") // ddl-auto로 컬럼이 추가된 뒤 실행
+@RequiredArgsConstructor
+@Slf4j
+public class CartTotalsBackfillService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${cart.totals.backfill-enabled:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            // 대상이 없으면 tour 집계 없이 끝나도록 조건을 걸고, 투어 합계는 장바구니별 상관 서브쿼리로 계산
+            int updated = jdbcTemplate.update("""
+                    UPDATE cart c
+                    SET c.tour_count = (SELECT COUNT(*) FROM tour t WHERE t.cart_id = c.cart_id),
+                        c.total_expense = (SELECT COALESCE(SUM(t.price), 0) FROM tour t WHERE t.cart_id = c.cart_id)
+                    WHERE c.total_expense IS NULL
+                    """);
+            if (updated > 0) {
+                log.info("장바구니 합계 보정 완료 - {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("장바구니 합계 보정 실패", e);
+        }
+    }
+}
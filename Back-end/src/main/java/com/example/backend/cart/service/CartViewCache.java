@@ -0,0 +1,118 @@
+package com.example.backend.cart.service;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.common.cache.RedisJsonCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 장바구니 조회 결과(CartDetailResponse 목록) 캐시
+ * 모든 인스턴스가 같은 결과를 보도록 Redis에만 저장하고,
+ * 장바구니/투어 변경 시 트랜잭션 커밋 이후 삭제하여 다음 조회에서 다시 만듭니다.
+ * 목록을 만들기 전에 읽은 변경 버전을 함께 저장하고, 현재 버전보다 오래된 값은 쓰지 않습니다.
+ * (변경 커밋 중 캐시를 놓친 조회가 커밋 전 데이터를 삭제 이후에 저장하더라도 다음 조회에서 걸러짐)
+ */
+@Component
+@Slf4j
+public class CartViewCache {
+
+    private static final String KEY_PREFIX = "cart:view:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisJsonCodec redisJsonCodec;
+    private final Duration ttl;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    public CartViewCache(RedisTemplate<String, String> redisTemplate,
+                         RedisJsonCodec redisJsonCodec,
+                         @Value("${cart.view-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisJsonCodec = redisJsonCodec;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * currentVersion 이상 버전으로 저장된 목록만 반환 (오래된 값은 삭제하고 미스로 처리)
+     */
+    public Optional<CartResponse.VersionedCarts> get(UUID userId, long currentVersion) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (json == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+            CartResponse.VersionedCarts cached = redisJsonCodec.read(json, CartResponse.VersionedCarts.class);
+            if (cached.getVersion() < currentVersion || cached.getCarts() == null) {
+                stale.increment();
+                misses.increment();
+                redisTemplate.delete(KEY_PREFIX + userId);
+                return Optional.empty();
+            }
+            hits.increment();
+            return Optional.of(cached);
+        } catch (Exception e) {
+            // Redis 장애 시 DB 조회로 대체
+            log.warn("장바구니 캐시 조회 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    public void put(UUID userId, CartResponse.VersionedCarts carts) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, redisJsonCodec.write(carts), ttl);
+        } catch (Exception e) {
+            log.warn("장바구니 캐시 저장 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 캐시 삭제 (롤백 시에는 유지)
+     * 커밋 전에 지우면 그 사이 다른 조회가 변경 전 데이터를 다시 캐시할 수 있으므로 커밋 이후에 삭제합니다.
+     */
+    public void evictAfterCommit(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    private void evict(UUID userId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+            evictions.increment();
+        } catch (Exception e) {
+            log.warn("장바구니 캐시 삭제 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("stale", stale.sum());
+        return stats;
+    }
+}
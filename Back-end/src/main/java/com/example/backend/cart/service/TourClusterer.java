@@ -0,0 +1,157 @@
+package com.example.backend.cart.service;
+
+import com.example.backend.cart.dto.request.CartRequest;
+import com.example.backend.cart.dto.response.CartResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 장바구니 투어 공간 클러스터링 (지도 화면에서 클라이언트가 수백 개 좌표를 직접 묶지 않도록)
+ * 1. 좌표를 double 배열로 옮기고 투어마다 셀 키(geohash 비트 또는 격자 번호)를 계산
+ * 2. (셀 키 << 18 | 투어 번호)를 long 배열 하나로 정렬 → 같은 셀이 연속되고, geohash는 Z-order로 공간 정렬됨
+ * 3. 정렬된 배열을 한 번 훑으며 셀별 개수, 중심(평균 좌표), 경계 상자를 계산
+ */
+@Component
+public class TourClusterer {
+
+    private static final char[] GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int INDEX_BITS = 18;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    public static final int MIN_PRECISION = 1;
+    public static final int MAX_PRECISION = 9; // 45비트, 약 5m
+    public static final double MIN_GRID_SIZE = 0.001;
+    public static final double MAX_GRID_SIZE = 10.0;
+
+    public static boolean hasValidCoordinates(CartResponse.TourInfo tour) {
+        return tour.getLatitude() != null && tour.getLongitude() != null
+                && tour.getLatitude() >= -90 && tour.getLatitude() <= 90
+                && tour.getLongitude() >= -180 && tour.getLongitude() <= 180;
+    }
+
+    /**
+     * @param tours 좌표가 있는 투어만 전달 (hasValidCoordinates)
+     * @param precision GEOHASH일 때 geohash 자리수
+     * @param gridSize GRID일 때 격자 간격(도)
+     */
+    public List<CartResponse.TourCluster> cluster(List<CartResponse.TourInfo> tours, CartRequest.ClusterMode mode,
+                                                  int precision, double gridSize) {
+        if (mode == CartRequest.ClusterMode.GEOHASH && (precision < MIN_PRECISION || precision > MAX_PRECISION)) {
+            throw new IllegalArgumentException("precision은 " + MIN_PRECISION + "~" + MAX_PRECISION + " 사이여야 합니다.");
+        }
+        if (mode == CartRequest.ClusterMode.GRID && (gridSize < MIN_GRID_SIZE || gridSize > MAX_GRID_SIZE)) {
+            throw new IllegalArgumentException("gridSize는 " + MIN_GRID_SIZE + "~" + MAX_GRID_SIZE + " 사이여야 합니다.");
+        }
+
+        int n = tours.size();
+        if (n == 0) {
+            return List.of();
+        }
+        if (n > INDEX_MASK) {
+            throw new IllegalArgumentException("클러스터링할 수 있는 투어 수를 넘었습니다.");
+        }
+
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        long gridColumns = (long) Math.ceil(360.0 / gridSize) + 1;
+        long[] sorted = new long[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = tours.get(i).getLatitude();
+            longitudes[i] = tours.get(i).getLongitude();
+            long cell = mode == CartRequest.ClusterMode.GEOHASH
+                    ? geohashBits(latitudes[i], longitudes[i], precision)
+                    : gridCell(latitudes[i], longitudes[i], gridSize, gridColumns);
+            sorted[i] = (cell << INDEX_BITS) | i;
+        }
+        Arrays.sort(sorted);
+
+        List<CartResponse.TourCluster> clusters = new ArrayList<>();
+        int start = 0;
+        while (start < n) {
+            long cell = sorted[start] >>> INDEX_BITS;
+            int end = start;
+            double sumLatitude = 0, sumLongitude = 0;
+            double minLatitude = Double.MAX_VALUE, minLongitude = Double.MAX_VALUE;
+            double maxLatitude = -Double.MAX_VALUE, maxLongitude = -Double.MAX_VALUE;
+            List<UUID> tourIds = new ArrayList<>();
+            while (end < n && (sorted[end] >>> INDEX_BITS) == cell) {
+                int i = (int) (sorted[end] & INDEX_MASK);
+                sumLatitude += latitudes[i];
+                sumLongitude += longitudes[i];
+                minLatitude = Math.min(minLatitude, latitudes[i]);
+                maxLatitude = Math.max(maxLatitude, latitudes[i]);
+                minLongitude = Math.min(minLongitude, longitudes[i]);
+                maxLongitude = Math.max(maxLongitude, longitudes[i]);
+                tourIds.add(tours.get(i).getTourId());
+                end++;
+            }
+
+            int count = end - start;
+            clusters.add(CartResponse.TourCluster.builder()
+                    .key(mode == CartRequest.ClusterMode.GEOHASH
+                            ? geohashString(cell, precision)
+                            : "grid:" + (cell / gridColumns) + ":" + (cell % gridColumns))
+                    .count(count)
+                    .centerLatitude(sumLatitude / count)
+                    .centerLongitude(sumLongitude / count)
+                    .minLatitude(minLatitude)
+                    .minLongitude(minLongitude)
+                    .maxLatitude(maxLatitude)
+                    .maxLongitude(maxLongitude)
+                    .tourIds(tourIds)
+                    .tour(count == 1 ? tours.get((int) (sorted[start] & INDEX_MASK)) : null)
+                    .build());
+            start = end;
+        }
+        return clusters;
+    }
+
+    /**
+     * geohash를 문자열 대신 비트(자리당 5비트, 경도부터 번갈아)로 계산
+     */
+    static long geohashBits(double latitude, double longitude, int precision) {
+        double minLatitude = -90, maxLatitude = 90;
+        double minLongitude = -180, maxLongitude = 180;
+        long hash = 0;
+        for (int bit = 0; bit < precision * 5; bit++) {
+            hash <<= 1;
+            if (bit % 2 == 0) {
+                double mid = (minLongitude + maxLongitude) / 2;
+                if (longitude >= mid) {
+                    hash |= 1;
+                    minLongitude = mid;
+                } else {
+                    maxLongitude = mid;
+                }
+            } else {
+                double mid = (minLatitude + maxLatitude) / 2;
+                if (latitude >= mid) {
+                    hash |= 1;
+                    minLatitude = mid;
+                } else {
+                    maxLatitude = mid;
+                }
+            }
+        }
+        return hash;
+    }
+
+    static String geohashString(long hash, int precision) {
+        char[] chars = new char[precision];
+        for (int i = precision - 1; i >= 0; i--) {
+            chars[i] = GEOHASH_BASE32[(int) (hash & 31)];
+            hash >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static long gridCell(double latitude, double longitude, double gridSize, long gridColumns) {
+        long row = (long) Math.floor((latitude + 90) / gridSize);
+        long column = (long) Math.floor((longitude + 180) / gridSize);
+        return row * gridColumns + column;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.backend.cart.service;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.cart.entity.CartChangeType;
+import com.example.backend.tour.entity.Place;
+import com.example.backend.tour.entity.Tour;
+import com.example.backend.tour.repository.PlaceRepository;
+import com.example.backend.tour.repository.TourRepository;
+import com.example.backend.tour.webclient.TourApiClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * contentId만으로 장바구니에 담긴 장소(Place.placeholder)의 상세 정보를 비동기로 채움
+ * - 장바구니 추가 트랜잭션이 커밋된 뒤 전용 스레드풀에서 외부 API 5종을 호출 (추가 요청은 DB 쓰기만 기다림)
+ * - 외부 API 실패 시 지수 백오프로 재시도하고, 그래도 실패하거나 대기열이 가득 차면 주기 작업이 다시 처리
+ * - 주기 작업의 재시도 간격은 실패할 때마다 두 배로 늘리고, sweep-max-attempts 회 실패한 장소는 포기 (잘못된 contentId가 대기열을 막지 않도록)
+ * - 채운 뒤에는 해당 장소를 담은 사용자의 장바구니 캐시를 지우고 변경 내역(TOUR_UPDATED)을 남김
+ */
+@Service
+@Slf4j
+public class TourDetailEnrichmentService {
+
+    private final TourApiClient tourApiClient;
+    private final PlaceRepository placeRepository;
+    private final TourRepository tourRepository;
+    private final CartViewCache cartViewCache;
+    private final CartChangeLog cartChangeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor enrichmentExecutor;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final int sweepBatchSize;
+    private final int sweepMaxAttempts;
+    private final Duration sweepBaseDelay;
+    private final Duration sweepMaxDelay;
+
+    // 같은 contentId에 대한 보강이 중복 실행되지 않도록 관리
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder enriched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+
+    public TourDetailEnrichmentService(TourApiClient tourApiClient,
+                                       PlaceRepository placeRepository,
+                                       TourRepository tourRepository,
+                                       CartViewCache cartViewCache,
+                                       CartChangeLog cartChangeLog,
+                                       TransactionTemplate transactionTemplate,
+                                       @Qualifier("tourEnrichmentExecutor") TaskExecutor enrichmentExecutor,
+                                       @Value("${place.enrichment.max-attempts:3}") int maxAttempts,
+                                       @Value("${place.enrichment.retry-delay-ms:2000}") long retryDelayMs,
+                                       @Value("${place.enrichment.sweep-batch-size:50}") int sweepBatchSize,
+                                       @Value("${place.enrichment.sweep-max-attempts:8}") int sweepMaxAttempts,
+                                       @Value("${place.enrichment.sweep-delay-ms:300000}") long sweepDelayMs,
+                                       @Value("${place.enrichment.sweep-max-delay-ms:86400000}") long sweepMaxDelayMs) {
+        this.tourApiClient = tourApiClient;
+        this.placeRepository = placeRepository;
+        this.tourRepository = tourRepository;
+        this.cartViewCache = cartViewCache;
+        this.cartChangeLog = cartChangeLog;
+        this.transactionTemplate = transactionTemplate;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = Duration.ofMillis(retryDelayMs);
+        this.sweepBatchSize = sweepBatchSize;
+        this.sweepMaxAttempts = sweepMaxAttempts;
+        this.sweepBaseDelay = Duration.ofMillis(sweepDelayMs);
+        this.sweepMaxDelay = Duration.ofMillis(sweepMaxDelayMs);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 보강 시작 (롤백되면 실행하지 않음)
+     */
+    public void enrichAfterCommit(String contentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(contentId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(contentId);
+            }
+        });
+    }
+
+    /**
+     * 재시도까지 실패했거나 대기열 초과, 재기동 등으로 남은 placeholder를 주기적으로 다시 보강
+     * 다음 보강 시각이 지난 행만 예정 시각 순으로 가져오므로 계속 실패하는 행이 새 행을 밀어내지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${place.enrichment.sweep-delay-ms:300000}",
+            initialDelayString = "${place.enrichment.sweep-delay-ms:300000}")
+    public void enrichRemainingPlaceholders() {
+        placeRepository.findPlaceholderContentIdsDue(LocalDateTime.now(), PageRequest.of(0, sweepBatchSize))
+                .forEach(this::submit);
+    }
+
+    private void submit(String contentId) {
+        if (!pending.add(contentId)) {
+            return;
+        }
+        try {
+            enrichmentExecutor.execute(() -> enrich(contentId));
+        } catch (TaskRejectedException e) {
+            pending.remove(contentId);
+            rejected.increment();
+            log.debug("장소 상세 보강 대기열 초과 - contentId: {}", contentId);
+        }
+    }
+
+    private void enrich(String contentId) {
+        try {
+            if (placeRepository.findById(contentId).map(place -> !place.isPlaceholder()).orElse(true)) {
+                return;
+            }
+
+            CartResponse.TourDetailResponse detail = tourApiClient.findTourDetailAsync(contentId)
+                    .switchIfEmpty(Mono.error(() -> new IllegalStateException("상세 정보 조회 실패")))
+                    .retryWhen(Retry.backoff(maxAttempts - 1, retryDelay))
+                    .block();
+
+            transactionTemplate.executeWithoutResult(status -> apply(contentId, detail));
+            enriched.increment();
+        } catch (Exception e) {
+            failed.increment();
+            recordFailure(contentId, e);
+        } finally {
+            pending.remove(contentId);
+        }
+    }
+
+    /**
+     * 실패 횟수를 올리고 다음 보강 시각을 지수 백오프로 미룸 (최대 횟수에 도달하면 포기)
+     */
+    private void recordFailure(String contentId, Exception cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> placeRepository.findById(contentId)
+                    .filter(Place::isPlaceholder)
+                    .ifPresent(place -> {
+                        int attempts = place.getEnrichAttempts() == null ? 0 : place.getEnrichAttempts();
+                        if (attempts + 1 >= sweepMaxAttempts) {
+                            place.recordEnrichFailure(null);
+                            abandoned.increment();
+                            log.warn("장소 상세 보강 포기 ({}회 실패) - contentId: {}, 원인: {}",
+                                    attempts + 1, contentId, cause.getMessage());
+                            return;
+                        }
+                        place.recordEnrichFailure(LocalDateTime.now().plus(backoff(attempts)));
+                        log.warn("장소 상세 보강 실패 (주기 작업에서 다시 시도) - contentId: {}, 실패 횟수: {}, 원인: {}",
+                                contentId, attempts + 1, cause.getMessage());
+                    }));
+        } catch (Exception e) {
+            log.warn("장소 상세 보강 실패 기록 실패 - contentId: {}, 원인: {}", contentId, e.getMessage());
+        }
+    }
+
+    private Duration backoff(int previousAttempts) {
+        Duration delay = sweepBaseDelay.multipliedBy(1L << Math.min(previousAttempts, 20));
+        return delay.compareTo(sweepMaxDelay) > 0 ? sweepMaxDelay : delay;
+    }
+
+    private void apply(String contentId, CartResponse.TourDetailResponse detail) {
+        Place place = placeRepository.findById(contentId).orElse(null);
+        if (place == null || !place.isPlaceholder()) {
+            return;
+        }
+        place.applyDetail(detail);
+
+        for (Tour tour : tourRepository.findAllWithCartByContentId(contentId)) {
+            UUID userId = tour.getCartId().getUserId().getUserId();
+            cartViewCache.evictAfterCommit(userId);
+            cartChangeLog.record(userId, CartChangeType.TOUR_UPDATED,
+                    tour.getCartId().getCartId(), tour.getTourId(), contentId);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enriched", enriched.sum());
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("abandoned", abandoned.sum());
+        stats.put("pending", pending.size());
+        return stats;
+    }
+}
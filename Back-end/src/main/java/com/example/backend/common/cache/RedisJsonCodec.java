@@ -0,0 +1,39 @@
+package com.example.backend.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 캐시에 저장하는 응답 DTO의 JSON 직렬화/역직렬화
+ * 응답 DTO는 setter 없이 Lombok getter만 있으므로 (getLDongRegnCd → lDongRegnCd 불일치 포함)
+ * getter/setter 대신 필드 기준으로 읽고 씁니다.
+ */
+@Component
+public class RedisJsonCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public RedisJsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    }
+
+    public String write(Object value) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    public <T> T read(String json, Class<T> type) throws JsonProcessingException {
+        return objectMapper.readValue(json, type);
+    }
+
+    public <T> List<T> readList(String json, Class<T> elementType) throws JsonProcessingException {
+        return objectMapper.readValue(json,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+}
@@ -19,4 +19,48 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public TaskExecutor tourCacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2); //검색 캐시 백그라운드 갱신용
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100); //대기열이 가득 차면 갱신을 건너뛰고 기존 캐시를 계속 사용
+        executor.setThreadNamePrefix("TourCacheRefresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public TaskExecutor tourPrefetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2); //검색 결과 상세 선조회용
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50); //대기열이 가득 차면 선조회를 건너뜀
+        executor.setThreadNamePrefix("TourPrefetch-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public TaskExecutor tourEnrichmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2); //장바구니에 담긴 장소 상세 정보 비동기 보강용
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200); //대기열이 가득 차면 주기 보강 작업이 이어서 처리
+        executor.setThreadNamePrefix("TourEnrichment-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public TaskExecutor scheduleOptimizationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2); //스케줄 동선 최적화 작업용
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50); //대기열이 가득 차면 작업 요청을 거절
+        executor.setThreadNamePrefix("ScheduleOptimize-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -89,6 +89,8 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET","POST","PUT","DELETE","PATCH","OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // 모바일 클라이언트가 장바구니 ETag를 읽어 If-None-Match로 보낼 수 있도록, 최적화 작업 조회 경로(Location)도 노출
+        configuration.setExposedHeaders(Arrays.asList("ETag", "Location"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
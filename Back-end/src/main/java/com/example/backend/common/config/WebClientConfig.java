@@ -1,52 +1,99 @@
 package com.example.backend.common.config;
 
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-
-import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 @Slf4j
+@RequiredArgsConstructor
+@EnableConfigurationProperties(WebClientProperties.class)
 public class WebClientConfig {
 
+    private final WebClientProperties properties;
+
+    /**
+     * 기본 WebClient (헬스 체크 등 업스트림 전용 클라이언트가 없는 곳에서 사용)
+     */
     @Bean
+    @Primary
     public WebClient webClient() {
+        return build("default", properties.getDefaults());
+    }
+
+    // 한국관광공사 KorService2
+    @Bean
+    public WebClient tourApiWebClient() {
+        return build("tour-api", properties.getTourApi());
+    }
+
+    // OpenAI (응답이 느려도 다른 업스트림의 커넥션을 점유하지 않도록 풀 분리)
+    @Bean
+    public WebClient openAiWebClient() {
+        return build("open-ai", properties.getOpenAi());
+    }
+
+    // OpenWeatherMap
+    @Bean
+    public WebClient weatherWebClient() {
+        return build("weather", properties.getWeather());
+    }
+
+    private WebClient build(String name, WebClientProperties.Upstream upstream) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(upstream.getMaxConnections())
+                .pendingAcquireMaxCount(upstream.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(upstream.getPendingAcquireTimeout())
+                .maxIdleTime(upstream.getMaxIdleTime())
+                .maxLifeTime(upstream.getMaxLifeTime())
+                .evictInBackground(upstream.getEvictInBackground())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) upstream.getConnectTimeout().toMillis())
+                .responseTimeout(upstream.getResponseTimeout())
+                .compress(upstream.isCompression())
+                .keepAlive(upstream.isKeepAlive());
+
+        if (upstream.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
         return WebClient.builder()
-                .codecs(configurer -> {
-                    configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024);
-                    configurer.defaultCodecs().enableLoggingRequestDetails(true);
-                })
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(upstream.getMaxInMemorySize()))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .filter(logRequest())
-                .filter(logResponse())
+                .filter(logRequest(name))
+                .filter(logResponse(name))
                 .build();
     }
 
     // 요청 로깅 필터
-    private ExchangeFilterFunction logRequest() {
+    private ExchangeFilterFunction logRequest(String name) {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.info("Request: {} {}", clientRequest.method(), clientRequest.url());
+            log.debug("[{}] Request: {} {}", name, clientRequest.method(), clientRequest.url());
             return Mono.just(clientRequest);
         });
     }
 
     // 응답 로깅 필터
-    private ExchangeFilterFunction logResponse() {
+    private ExchangeFilterFunction logResponse(String name) {
         return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            log.info("Response: {}", clientResponse.statusCode());
+            log.debug("[{}] Response: {}", name, clientResponse.statusCode());
             return Mono.just(clientResponse);
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.example.backend.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 API별 WebClient 연결 설정 (webclient.*)
+ * 업스트림마다 커넥션 풀을 분리하여 한 API의 지연이 다른 API의 연결을 점유하지 않도록 합니다.
+ *
+ * 예) webclient.open-ai.max-connections=20
+ *     webclient.tour-api.response-timeout=15s
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "webclient")
+public class WebClientProperties {
+
+    private Upstream defaults = new Upstream();
+    private Upstream tourApi = new Upstream();
+    private Upstream openAi = Upstream.of(20, Duration.ofSeconds(60));
+    private Upstream weather = Upstream.of(20, Duration.ofSeconds(10));
+
+    @Getter
+    @Setter
+    public static class Upstream {
+        // 커넥션 풀
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        // 타임아웃
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration responseTimeout = Duration.ofSeconds(30);
+
+        // 프로토콜
+        private boolean compression = true;
+        private boolean keepAlive = true;
+        private boolean http2 = false; // https 업스트림에서만 사용 (ALPN으로 HTTP/1.1과 협상)
+
+        private int maxInMemorySize = 10 * 1024 * 1024;
+
+        static Upstream of(int maxConnections, Duration responseTimeout) {
+            Upstream upstream = new Upstream();
+            upstream.setMaxConnections(maxConnections);
+            upstream.setResponseTimeout(responseTimeout);
+            return upstream;
+        }
+    }
+}
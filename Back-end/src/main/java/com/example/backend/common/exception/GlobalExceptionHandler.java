@@ -1,9 +1,11 @@
 package com.example.backend.common.exception;
 
+import com.example.backend.common.idempotency.IdempotencyKeyReusedException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -36,6 +38,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    // 같은 데이터(장바구니 등)를 동시에 수정해 버전 검사에 실패했거나, 같은 Idempotency-Key 요청이 처리 중인 경우
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyFailure(ConcurrencyFailureException e) {
+        log.warn("동시 요청 충돌: {}", e.getMessage());
+        ErrorResponse error = new ErrorResponse("CONFLICT", "동시에 처리 중인 다른 요청과 충돌했습니다. 잠시 후 다시 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    // 같은 Idempotency-Key를 내용이 다른 요청에 다시 사용한 경우
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException e) {
+        log.warn("Idempotency-Key 재사용: {}", e.getMessage());
+        ErrorResponse error = new ErrorResponse("IDEMPOTENCY_KEY_REUSED", e.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+
     // @Valid로 검증 실패시 발생하는 예외 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException e) {
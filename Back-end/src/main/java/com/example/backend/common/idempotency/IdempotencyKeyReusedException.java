@@ -0,0 +1,11 @@
+package com.example.backend.common.idempotency;
+
+/**
+ * 이미 사용한 Idempotency-Key가 다른 요청(메서드, 경로, 파라미터, 본문)에 다시 쓰인 경우 (422)
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
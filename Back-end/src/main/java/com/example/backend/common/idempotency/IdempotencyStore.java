@@ -0,0 +1,216 @@
+package com.example.backend.common.idempotency;
+
+import com.example.backend.common.cache.RedisJsonCodec;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 처리
+ * 같은 키로 다시 들어온 요청은 처리하지 않고 처음 요청의 응답을 그대로 돌려줍니다.
+ * 키마다 요청 지문(메서드, 경로, 파라미터, 본문의 SHA-256)을 함께 저장해, 같은 키를 다른 요청에 쓰면 422로 응답합니다.
+ * 처리 중인 키로 들어온 요청은 409로 응답하고, 실패한 요청의 키는 삭제해 다시 시도할 수 있게 합니다.
+ * 처리 중 표시는 처리가 끝날 때까지 주기적으로 TTL을 연장하므로 오래 걸리는 요청 도중에 만료되지 않습니다.
+ * Redis 장애 시에는 키 없이 처리합니다.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    // 값 형식(Entry)이 바뀌어 이전 형식의 키와 섞이지 않도록 버전 포함
+    private static final String KEY_PREFIX = "idempotency:v2:";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisJsonCodec redisJsonCodec;
+    private final Duration inProgressTtl;
+    private final Duration resultTtl;
+
+    public IdempotencyStore(RedisTemplate<String, String> redisTemplate,
+                            RedisJsonCodec redisJsonCodec,
+                            @Value("${idempotency.in-progress-ttl-seconds:30}") long inProgressTtlSeconds,
+                            @Value("${idempotency.result-ttl-seconds:86400}") long resultTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisJsonCodec = redisJsonCodec;
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        this.resultTtl = Duration.ofSeconds(resultTtlSeconds);
+    }
+
+    /**
+     * @param scope 사용자/API 구분 (다른 사용자나 다른 API의 같은 키와 섞이지 않도록)
+     * @param idempotencyKey 클라이언트가 보낸 키 (없으면 그냥 실행)
+     * @param requestBody 요청 본문 (본문이 없는 API는 null, 쿼리 파라미터는 현재 요청에서 읽어 지문에 포함)
+     * @param action 트랜잭션이 끝난 뒤 결과를 돌려주는 처리 (서비스 호출)
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object requestBody,
+                         Class<T> resultType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 최대 " + MAX_KEY_LENGTH + "자입니다.");
+        }
+
+        String key = KEY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(requestBody);
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(key, redisJsonCodec.write(new Entry(fingerprint, null)), inProgressTtl);
+        } catch (Exception e) {
+            log.warn("Idempotency 키 확인 실패, 키 없이 처리 - key: {}, 원인: {}", key, e.getMessage());
+            return action.get();
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return replay(key, fingerprint, resultType);
+        }
+
+        InProgressLease lease = new InProgressLease(key);
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            lease.release();
+            delete(key);
+            throw e;
+        }
+        lease.release();
+        store(key, fingerprint, result);
+        return result;
+    }
+
+    private <T> T replay(String key, String fingerprint, Class<T> resultType) {
+        Entry entry;
+        try {
+            String stored = redisTemplate.opsForValue().get(key);
+            entry = stored == null ? null : redisJsonCodec.read(stored, Entry.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다. key: " + key, e);
+        }
+        if (entry == null) {
+            throw new ConcurrencyFailureException("같은 Idempotency-Key의 요청을 처리 중입니다.");
+        }
+        // 처리 중이어도 다른 요청이면 409가 아니라 422로 알려 클라이언트가 키를 새로 만들도록 함
+        if (!fingerprint.equals(entry.getFingerprint())) {
+            throw new IdempotencyKeyReusedException("이미 다른 요청에 사용한 Idempotency-Key입니다.");
+        }
+        if (entry.getResponse() == null) {
+            throw new ConcurrencyFailureException("같은 Idempotency-Key의 요청을 처리 중입니다.");
+        }
+        try {
+            return redisJsonCodec.read(entry.getResponse(), resultType);
+        } catch (Exception e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다. key: " + key, e);
+        }
+    }
+
+    private void store(String key, String fingerprint, Object result) {
+        try {
+            Entry entry = new Entry(fingerprint, redisJsonCodec.write(result));
+            redisTemplate.opsForValue().set(key, redisJsonCodec.write(entry), resultTtl);
+        } catch (Exception e) {
+            // 처리는 끝났으므로 키만 남지 않도록 삭제 (이후 재시도는 DB 제약으로 중복이 걸러짐)
+            log.warn("Idempotency 응답 저장 실패 - key: {}, 원인: {}", key, e.getMessage());
+            delete(key);
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception e) {
+            log.warn("Idempotency 키 삭제 실패 - key: {}, 원인: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 HTTP 요청의 메서드, 경로, 쿼리 파라미터(이름순)와 본문 JSON을 이어 붙인 SHA-256
+     */
+    private String fingerprint(Object requestBody) {
+        StringBuilder source = new StringBuilder(256);
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            source.append(request.getMethod()).append(' ').append(request.getRequestURI());
+            new TreeMap<>(request.getParameterMap()).forEach((name, values) ->
+                    source.append('\n').append(name).append('=').append(String.join(",", values)));
+        }
+        source.append('\n');
+        if (requestBody != null) {
+            try {
+                source.append(redisJsonCodec.write(requestBody));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("요청 본문을 확인할 수 없습니다.", e);
+            }
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 처리 중 표시의 TTL을 1/3 주기로 연장 (release 이후에는 연장하지 않아 저장한 응답의 TTL을 덮어쓰지 않음)
+     */
+    private final class InProgressLease implements Runnable {
+        private final String key;
+        private final Disposable renewal;
+        private boolean released;
+
+        private InProgressLease(String key) {
+            this.key = key;
+            long periodMillis = Math.max(inProgressTtl.toMillis() / 3, 1000);
+            this.renewal = Schedulers.boundedElastic()
+                    .schedulePeriodically(this, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public synchronized void run() {
+            if (released) {
+                return;
+            }
+            try {
+                redisTemplate.expire(key, inProgressTtl);
+            } catch (Exception e) {
+                log.warn("Idempotency 처리 중 TTL 연장 실패 - key: {}, 원인: {}", key, e.getMessage());
+            }
+        }
+
+        private synchronized void release() {
+            released = true;
+            renewal.dispose();
+        }
+    }
+
+    /**
+     * Redis에 저장하는 값 (response가 null이면 처리 중)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private String fingerprint;
+        private String response;
+    }
+}
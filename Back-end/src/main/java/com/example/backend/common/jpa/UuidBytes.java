@@ -0,0 +1,20 @@
+package com.example.backend.common.jpa;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * BINARY(16) UUID 컬럼에 native query로 값을 넘길 때 사용하는 변환
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.backend.common.migration;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기동 시 한 번만 실행하면 되는 데이터 이관의 완료 기록 (이관 종류당 한 행)
+ * 기록이 있으면 다음 기동부터는 이관을 건너뜁니다.
+ */
+@Entity
+@Table(name = "data_migration")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DataMigration {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    public static DataMigration completed(String name, int itemCount) {
+        return DataMigration.builder()
+                .name(name)
+                .completedAt(LocalDateTime.now())
+                .itemCount(itemCount)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.backend.health;
+
+import com.example.backend.cart.service.CartViewCache;
+import com.example.backend.cart.service.TourDetailEnrichmentService;
+import com.example.backend.schedule.service.DailyPlanCache;
+import com.example.backend.tour.service.TourCatalogService;
+import com.example.backend.tour.webclient.TourApiClient;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/health/metrics")
+@Tag(name = "MetricsAPI", description = "캐시/외부 API 운영 지표 조회 API")
+public class MetricsController {
+
+    private final TourApiClient tourApiClient;
+    private final TourCatalogService tourCatalogService;
+    private final CartViewCache cartViewCache;
+    private final TourDetailEnrichmentService tourDetailEnrichmentService;
+    private final DailyPlanCache dailyPlanCache;
+
+    @GetMapping("/tour-api")
+    @Operation(summary = "TourAPI 지표 조회", description = "TourAPI 목록/상세 캐시의 적중률 등 운영 지표를 조회합니다")
+    public ResponseEntity<Map<String, Object>> getTourApiMetrics() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("searchResultCache", toMap(tourApiClient.getSearchResultCacheStats(), tourApiClient.getSearchResultCacheSize()));
+        response.put("searchCache", tourApiClient.getSearchCacheStats());
+        response.put("singleFlight", tourApiClient.getSingleFlightStats());
+        response.put("circuitBreakers", tourApiClient.getResilienceStats());
+        response.put("detailPrefetch", tourApiClient.getDetailPrefetchStats());
+        response.put("catalogReplica", tourCatalogService.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/cart")
+    @Operation(summary = "장바구니 캐시 지표 조회", description = "사용자별 장바구니 조회 캐시의 적중/삭제 횟수와 장소 상세 비동기 보강 현황을 조회합니다")
+    public ResponseEntity<Map<String, Object>> getCartMetrics() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("cartViewCache", cartViewCache.getStats());
+        response.put("detailEnrichment", tourDetailEnrichmentService.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/schedule")
+    @Operation(summary = "일정 최적화 지표 조회", description = "AI 일정 배분 결과 캐시의 적중률 등 운영 지표를 조회합니다")
+    public ResponseEntity<Map<String, Object>> getScheduleMetrics() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("dailyPlanCache", dailyPlanCache.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", size);
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictionCount", stats.evictionCount());
+        return map;
+    }
+}
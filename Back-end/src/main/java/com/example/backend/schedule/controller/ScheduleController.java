@@ -5,6 +5,7 @@ import com.example.backend.schedule.dto.request.ScheduleRequest.ScheduleUpdateRe
 import com.example.backend.schedule.dto.response.ScheduleResponse;
 import com.example.backend.schedule.dto.response.ScheduleResponse.ScheduleId;
 import com.example.backend.schedule.dto.response.ScheduleResponse.ScheduleListInfo;
+import com.example.backend.schedule.service.ScheduleOptimizationService;
 import com.example.backend.schedule.service.ScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +29,7 @@ import java.util.UUID;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleOptimizationService scheduleOptimizationService;
 
     /**
      * 새로운 스케줄을 생성합니다.
@@ -100,17 +103,36 @@ public class ScheduleController {
     }
 
     /**
-     * AI 서비스를 사용하여 스케줄의 최적 경로를 계산합니다.
+     * 스케줄 최적 경로 계산 작업을 등록합니다. (장소를 날짜별로 배분하고 날짜별 동선을 계산)
+     * 같은 스케줄에 진행 중인 작업이 있으면 그 작업을 반환합니다.
      * @param scheduleId 최적화할 스케줄의 ID.
-     * @return 작업 성공 시 내용 없는 응답.
+     * @param mode 날짜별 배분 방식 (local: 서버 내 배분, ai: AI 배분). 생략 시 서버 기본값.
+     * @return 202 Accepted 와 작업 상태 (Location: 작업 조회 경로).
      */
     @PostMapping("/optimize/{scheduleId}")
-    @Operation(summary = "최적 동선", description = "스케쥴 최적 동선을 위해 AI 서비스를 사용하는 API.")
-    public ResponseEntity<Void> optimizeSchedule(
+    @Operation(summary = "최적 동선", description = "스케쥴 최적 동선 계산 작업을 등록하고 작업 ID를 바로 반환하는 API. 기본은 서버 내 배분이며 mode=ai 로 AI 배분을 사용할 수 있습니다. 결과는 작업 조회 API로 확인합니다.")
+    public ResponseEntity<ScheduleResponse.OptimizationJobResponse> optimizeSchedule(
             @Parameter(description = "스케쥴 ID", example = "b4e8f9a0-1234-4c56-8d7e-9f12345b6789")
-            @PathVariable UUID scheduleId) {
-        scheduleService.optimizeRoute(scheduleId);
-        return ResponseEntity.ok().build();
+            @PathVariable UUID scheduleId,
+            @Parameter(description = "날짜별 배분 방식 (local, ai)", example = "local")
+            @RequestParam(value = "mode", required = false) String mode) {
+        ScheduleResponse.OptimizationJobResponse job = scheduleOptimizationService.submit(scheduleId, mode);
+        return ResponseEntity.accepted()
+                .location(URI.create("/schedule/optimize/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    /**
+     * 스케줄 최적 경로 계산 작업의 상태와 결과를 조회합니다.
+     * @param jobId 작업 ID.
+     * @return 작업 상태 (PENDING, RUNNING, SUCCEEDED, FAILED)와 진행률.
+     */
+    @GetMapping("/optimize/jobs/{jobId}")
+    @Operation(summary = "최적 동선 작업 조회", description = "최적 동선 계산 작업의 상태, 진행률, 결과를 조회합니다. SUCCEEDED 이후 스케쥴 상세 조회 시 최적화된 순서가 반영되어 있습니다.")
+    public ResponseEntity<ScheduleResponse.OptimizationJobResponse> getOptimizationJob(
+            @Parameter(description = "작업 ID", example = "5f0c3a1e-2b7d-4c8e-9a61-0d2f4b6c8e10")
+            @PathVariable UUID jobId) {
+        return ResponseEntity.ok(scheduleOptimizationService.getJob(jobId));
     }
 
     /**
@@ -92,4 +92,21 @@ public class ScheduleRequest {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 일정 최적화 시 날짜별 장소 배분 방식
+     * LOCAL: 서버 내 지리 기반 배분 (외부 호출 없음), AI: OpenAI 배분
+     */
+    public enum OptimizationMode {
+        LOCAL,
+        AI;
+
+        public static OptimizationMode from(String value) {
+            try {
+                return OptimizationMode.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 최적화 방식입니다: " + value + " (local, ai)");
+            }
+        }
+    }
+}
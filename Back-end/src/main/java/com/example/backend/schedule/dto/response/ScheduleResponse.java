@@ -22,6 +22,35 @@ public class ScheduleResponse {
         private UUID scheduleId;
     }
 
+    /**
+     * 스케줄 동선 최적화 작업 상태 DTO
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class OptimizationJobResponse {
+        @Schema(description = "작업 ID", example = "5f0c3a1e-2b7d-4c8e-9a61-0d2f4b6c8e10")
+        private UUID jobId;
+        @Schema(description = "스케줄 ID", example = "9b9de25e-6a84-4b4e-b5e7-b81cdd90cc12")
+        private UUID scheduleId;
+        @Schema(description = "날짜별 배분 방식 (LOCAL, AI)", example = "LOCAL")
+        private String mode;
+        @Schema(description = "작업 상태 (PENDING, RUNNING, SUCCEEDED, FAILED)", example = "RUNNING")
+        private String status;
+        @Schema(description = "진행률 (0~100)", example = "60")
+        private int progress;
+        @Schema(description = "순서가 반영된 아이템 수 (완료 시)", example = "12")
+        private int itemCount;
+        @Schema(description = "실패 사유 (실패 시)", example = "OpenAI API 호출 실패")
+        private String errorMessage;
+        @Schema(description = "요청 일시", example = "2025-06-23T14:30:00")
+        private LocalDateTime createdAt;
+        @Schema(description = "시작 일시", example = "2025-06-23T14:30:01")
+        private LocalDateTime startedAt;
+        @Schema(description = "종료 일시", example = "2025-06-23T14:30:02")
+        private LocalDateTime finishedAt;
+    }
+
     /**
      * 스케줄 '목록' 조회 시 사용되는 DTO (사용자 정보 제외)
      */
@@ -0,0 +1,117 @@
+package com.example.backend.schedule.entity;
+
+import com.example.backend.schedule.dto.request.ScheduleRequest.OptimizationMode;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스케줄 동선 최적화 작업
+ * activeScheduleId는 작업이 끝나기 전까지만 scheduleId 값을 가지며 유니크 제약으로
+ * 같은 스케줄에 진행 중인 작업이 하나만 존재하도록 보장합니다. (종료 시 null)
+ */
+@Entity
+@Table(name = "schedule_optimization_job", indexes = {
+        @Index(name = "idx_schedule_optimization_job_schedule", columnList = "schedule_id"),
+        @Index(name = "idx_schedule_optimization_job_created", columnList = "created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_schedule_optimization_job_active", columnNames = "active_schedule_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ScheduleOptimizationJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "job_id", columnDefinition = "BINARY(16)")
+    private UUID jobId;
+
+    @Column(name = "schedule_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID scheduleId;
+
+    @Column(name = "active_schedule_id", columnDefinition = "BINARY(16)")
+    private UUID activeScheduleId;
+
+    @Column(name = "requested_by", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mode", nullable = false, length = 10)
+    private OptimizationMode mode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private ScheduleOptimizationStatus status = ScheduleOptimizationStatus.PENDING;
+
+    // 진행률 (0~100)
+    @Column(name = "progress", nullable = false)
+    private int progress;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "error_message", length = MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 작업 스레드와 중단 작업 정리가 동시에 상태를 바꾸는 경우를 감지
+    @Version
+    private long version;
+
+    public static ScheduleOptimizationJob submit(UUID scheduleId, UUID requestedBy, OptimizationMode mode) {
+        return ScheduleOptimizationJob.builder()
+                .scheduleId(scheduleId)
+                .activeScheduleId(scheduleId)
+                .requestedBy(requestedBy)
+                .mode(mode)
+                .build();
+    }
+
+    public boolean isFinished() {
+        return status == ScheduleOptimizationStatus.SUCCEEDED || status == ScheduleOptimizationStatus.FAILED;
+    }
+
+    public void start() {
+        this.status = ScheduleOptimizationStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void updateProgress(int progress) {
+        this.progress = progress;
+    }
+
+    public void succeed(int itemCount) {
+        this.status = ScheduleOptimizationStatus.SUCCEEDED;
+        this.progress = 100;
+        this.itemCount = itemCount;
+        finish();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = ScheduleOptimizationStatus.FAILED;
+        this.errorMessage = errorMessage == null || errorMessage.length() <= MAX_ERROR_LENGTH
+                ? errorMessage : errorMessage.substring(0, MAX_ERROR_LENGTH);
+        finish();
+    }
+
+    private void finish() {
+        this.activeScheduleId = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
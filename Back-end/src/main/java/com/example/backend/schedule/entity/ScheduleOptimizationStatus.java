@@ -0,0 +1,8 @@
+package com.example.backend.schedule.entity;
+
+public enum ScheduleOptimizationStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
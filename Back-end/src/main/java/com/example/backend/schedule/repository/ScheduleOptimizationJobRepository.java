@@ -0,0 +1,33 @@
+package com.example.backend.schedule.repository;
+
+import com.example.backend.schedule.entity.ScheduleOptimizationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ScheduleOptimizationJobRepository extends JpaRepository<ScheduleOptimizationJob, UUID> {
+
+    /**
+     * 특정 스케줄에 진행 중인(PENDING/RUNNING) 작업을 조회합니다.
+     */
+    Optional<ScheduleOptimizationJob> findByActiveScheduleId(UUID activeScheduleId);
+
+    /**
+     * 지정 시각 이전에 생성되었지만 아직 끝나지 않은 작업 (서버 재시작 등으로 중단된 작업)
+     */
+    @Query("SELECT j FROM ScheduleOptimizationJob j WHERE j.activeScheduleId IS NOT NULL AND j.createdAt < :createdBefore")
+    List<ScheduleOptimizationJob> findStaleJobs(@Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * 보관 기간이 지난 종료 작업 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ScheduleOptimizationJob j WHERE j.activeScheduleId IS NULL AND j.createdAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
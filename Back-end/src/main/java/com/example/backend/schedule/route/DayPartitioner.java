@@ -0,0 +1,346 @@
+package com.example.backend.schedule.route;
+
+import com.example.backend.schedule.dto.request.RouteOptimizerRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 장소 목록을 여행 일수만큼 지리적으로 묶어 날짜별 계획을 만드는 로컬 배분기
+ * - 일자별 장소 수는 AI 프롬프트와 같이 균등 배분 (날짜 간 차이는 최대 1개)
+ * - 용량 제한 k-means: (장소, 날짜) 쌍을 중심까지 거리순으로 배정하고 중심을 다시 계산
+ * - 출발지가 속한 묶음이 1일차, 이후는 직전 날짜 중심에서 가까운 순서로 날짜 지정
+ * - 마지막 날을 제외한 각 날짜에 숙소(ACCOMMODATION)가 하나씩 있도록 남는 숙소를 교환
+ * 거리는 묶음 간 비교에만 쓰이므로 등장방형 근사(DistanceService.equirectangularKm)를 사용합니다.
+ * 같은 입력에는 항상 같은 결과를 반환합니다.
+ */
+@Slf4j
+@Component
+public class DayPartitioner {
+
+    private static final String ACCOMMODATION = "ACCOMMODATION";
+    private static final int MAX_ITERATIONS = 20;
+    private static final int PAIR_BITS = 24;
+    private static final long PAIR_MASK = (1L << PAIR_BITS) - 1;
+
+    /**
+     * @param places 배분할 장소 목록 (0번은 1일차 출발지)
+     * @return RouteOptimizerService 에 바로 넘길 수 있는 날짜별 계획
+     */
+    public RouteOptimizerRequest partition(UUID scheduleId, int travelDays, List<RouteOptimizerRequest.PlaceInfo> places) {
+        int n = places.size();
+        int days = Math.max(1, Math.min(travelDays, n));
+
+        int[] capacities = new int[days];
+        for (int d = 0; d < days; d++) {
+            capacities[d] = n / days + (d < n % days ? 1 : 0);
+        }
+
+        int[] assignment = cluster(places, capacities);
+        List<List<RouteOptimizerRequest.PlaceInfo>> groups = orderGroups(places, assignment, days);
+        anchorAccommodations(groups);
+
+        List<RouteOptimizerRequest.DailyPlan> dailyPlans = new ArrayList<>(days);
+        for (int d = 0; d < days; d++) {
+            dailyPlans.add(new RouteOptimizerRequest.DailyPlan(d + 1, groups.get(d)));
+        }
+        log.info("🗂️ 로컬 일자 배분 완료 - Schedule ID: {}, {}개 장소 → {}일", scheduleId, n, days);
+        return new RouteOptimizerRequest(scheduleId, dailyPlans);
+    }
+
+    /**
+     * 용량 제한 k-means. 좌표가 없는(0,0) 장소는 군집화에서 빼고 마지막에 남는 자리에 채웁니다.
+     * @return 장소별 묶음 번호
+     */
+    private int[] cluster(List<RouteOptimizerRequest.PlaceInfo> places, int[] capacities) {
+        int n = places.size();
+        int k = capacities.length;
+        int[] assignment = new int[n];
+        Arrays.fill(assignment, -1);
+
+        List<Integer> located = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (hasLocation(places.get(i))) {
+                located.add(i);
+            }
+        }
+
+        if (!located.isEmpty()) {
+            double[] centerLat = new double[k];
+            double[] centerLon = new double[k];
+            seedCenters(places, located, centerLat, centerLon);
+
+            long[] keys = new long[located.size() * k];
+            for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+                int[] next = assign(places, located, capacities, centerLat, centerLon, keys);
+                boolean changed = !Arrays.equals(next, assignment);
+                assignment = next;
+                if (!changed) {
+                    break;
+                }
+                updateCenters(places, located, assignment, centerLat, centerLon);
+            }
+        }
+
+        int[] used = new int[k];
+        for (int i : located) {
+            used[assignment[i]]++;
+        }
+        int day = 0;
+        for (int i = 0; i < n; i++) {
+            if (assignment[i] >= 0) {
+                continue;
+            }
+            while (used[day] >= capacities[day]) {
+                day++;
+            }
+            assignment[i] = day;
+            used[day]++;
+        }
+        return assignment;
+    }
+
+    /**
+     * 출발지를 첫 중심으로, 이후에는 기존 중심들에서 가장 먼 장소를 다음 중심으로 고릅니다.
+     */
+    private void seedCenters(List<RouteOptimizerRequest.PlaceInfo> places, List<Integer> located,
+                             double[] centerLat, double[] centerLon) {
+        int k = centerLat.length;
+        double[] nearest = new double[located.size()];
+        Arrays.fill(nearest, Double.MAX_VALUE);
+
+        int seed = located.get(0);
+        for (int c = 0; c < k; c++) {
+            RouteOptimizerRequest.PlaceInfo center = places.get(seed);
+            centerLat[c] = center.getLatitude();
+            centerLon[c] = center.getLongitude();
+
+            int farthest = seed;
+            double farthestDistance = -1;
+            for (int j = 0; j < located.size(); j++) {
+                RouteOptimizerRequest.PlaceInfo place = places.get(located.get(j));
+                double distance = DistanceService.equirectangularKm(
+                        centerLat[c], centerLon[c], place.getLatitude(), place.getLongitude());
+                nearest[j] = Math.min(nearest[j], distance);
+                if (nearest[j] > farthestDistance) {
+                    farthestDistance = nearest[j];
+                    farthest = located.get(j);
+                }
+            }
+            seed = farthest;
+        }
+    }
+
+    /**
+     * (장소, 묶음) 쌍을 거리순으로 정렬해 남은 용량이 있는 가장 가까운 묶음에 배정합니다.
+     * 정렬 키는 (거리[m] << PAIR_BITS | 쌍 번호)로 두어 동률도 항상 같은 순서가 되도록 합니다.
+     */
+    private int[] assign(List<RouteOptimizerRequest.PlaceInfo> places, List<Integer> located, int[] capacities,
+                         double[] centerLat, double[] centerLon, long[] keys) {
+        int k = capacities.length;
+        for (int j = 0; j < located.size(); j++) {
+            RouteOptimizerRequest.PlaceInfo place = places.get(located.get(j));
+            for (int c = 0; c < k; c++) {
+                int pair = j * k + c;
+                long meters = Math.round(DistanceService.equirectangularKm(
+                        centerLat[c], centerLon[c], place.getLatitude(), place.getLongitude()) * 1000);
+                keys[pair] = (meters << PAIR_BITS) | pair;
+            }
+        }
+        Arrays.sort(keys);
+
+        int[] assignment = new int[places.size()];
+        Arrays.fill(assignment, -1);
+        int[] used = new int[k];
+        int remaining = located.size();
+        for (int p = 0; p < keys.length && remaining > 0; p++) {
+            int pair = (int) (keys[p] & PAIR_MASK);
+            int index = located.get(pair / k);
+            int c = pair % k;
+            if (assignment[index] < 0 && used[c] < capacities[c]) {
+                assignment[index] = c;
+                used[c]++;
+                remaining--;
+            }
+        }
+        return assignment;
+    }
+
+    private void updateCenters(List<RouteOptimizerRequest.PlaceInfo> places, List<Integer> located, int[] assignment,
+                               double[] centerLat, double[] centerLon) {
+        int k = centerLat.length;
+        double[] sumLat = new double[k];
+        double[] sumLon = new double[k];
+        int[] counts = new int[k];
+        for (int i : located) {
+            int c = assignment[i];
+            sumLat[c] += places.get(i).getLatitude();
+            sumLon[c] += places.get(i).getLongitude();
+            counts[c]++;
+        }
+        for (int c = 0; c < k; c++) {
+            if (counts[c] > 0) {
+                centerLat[c] = sumLat[c] / counts[c];
+                centerLon[c] = sumLon[c] / counts[c];
+            }
+        }
+    }
+
+    /**
+     * 출발지가 속한 묶음을 1일차로, 이후에는 직전 날짜 중심에서 가장 가까운 묶음을 다음 날짜로 둡니다.
+     */
+    private List<List<RouteOptimizerRequest.PlaceInfo>> orderGroups(List<RouteOptimizerRequest.PlaceInfo> places,
+                                                                     int[] assignment, int days) {
+        List<List<RouteOptimizerRequest.PlaceInfo>> clusters = new ArrayList<>(days);
+        for (int c = 0; c < days; c++) {
+            clusters.add(new ArrayList<>());
+        }
+        for (int i = 0; i < places.size(); i++) {
+            clusters.get(assignment[i]).add(places.get(i));
+        }
+
+        double[][] centers = new double[days][];
+        for (int c = 0; c < days; c++) {
+            centers[c] = center(clusters.get(c));
+        }
+
+        List<List<RouteOptimizerRequest.PlaceInfo>> ordered = new ArrayList<>(days);
+        boolean[] used = new boolean[days];
+        int current = assignment[0];
+        for (int d = 0; d < days; d++) {
+            used[current] = true;
+            ordered.add(clusters.get(current));
+
+            int next = -1;
+            double nextDistance = Double.MAX_VALUE;
+            for (int c = 0; c < days; c++) {
+                if (used[c]) {
+                    continue;
+                }
+                double distance = distance(centers[current], centers[c]);
+                if (next < 0 || distance < nextDistance) {
+                    next = c;
+                    nextDistance = distance;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            current = next;
+        }
+        return ordered;
+    }
+
+    /**
+     * 마지막 날을 제외하고 숙소가 없는 날짜에, 숙소가 2개 이상인 날짜(또는 마지막 날)의 숙소 중
+     * 가장 가까운 것을 가져오고 대신 그 날짜 중심에 가까운 일반 장소를 넘겨 날짜별 장소 수를 유지합니다.
+     */
+    private void anchorAccommodations(List<List<RouteOptimizerRequest.PlaceInfo>> groups) {
+        int days = groups.size();
+        RouteOptimizerRequest.PlaceInfo start = groups.get(0).get(0);
+        for (int d = 0; d < days - 1; d++) {
+            List<RouteOptimizerRequest.PlaceInfo> group = groups.get(d);
+            if (countAccommodations(group) > 0) {
+                continue;
+            }
+            double[] groupCenter = center(group);
+
+            int donorDay = -1;
+            RouteOptimizerRequest.PlaceInfo donorAccommodation = null;
+            double bestDistance = Double.MAX_VALUE;
+            for (int other = 0; other < days; other++) {
+                List<RouteOptimizerRequest.PlaceInfo> candidate = groups.get(other);
+                boolean hasSpare = other == days - 1 || countAccommodations(candidate) > 1;
+                if (other == d || !hasSpare) {
+                    continue;
+                }
+                for (RouteOptimizerRequest.PlaceInfo place : candidate) {
+                    if (!isAccommodation(place) || place == start) {
+                        continue;
+                    }
+                    double distance = distance(groupCenter, location(place));
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        donorDay = other;
+                        donorAccommodation = place;
+                    }
+                }
+            }
+            if (donorAccommodation == null) {
+                continue;
+            }
+
+            List<RouteOptimizerRequest.PlaceInfo> donor = groups.get(donorDay);
+            double[] donorCenter = center(donor);
+            RouteOptimizerRequest.PlaceInfo giveaway = null;
+            double giveawayDistance = Double.MAX_VALUE;
+            for (int i = d == 0 ? 1 : 0; i < group.size(); i++) {
+                RouteOptimizerRequest.PlaceInfo place = group.get(i);
+                double distance = distance(donorCenter, location(place));
+                if (giveaway == null || distance < giveawayDistance) {
+                    giveaway = place;
+                    giveawayDistance = distance;
+                }
+            }
+            if (giveaway == null) {
+                continue;
+            }
+
+            donor.set(donor.indexOf(donorAccommodation), giveaway);
+            group.set(group.indexOf(giveaway), donorAccommodation);
+        }
+    }
+
+    private int countAccommodations(List<RouteOptimizerRequest.PlaceInfo> group) {
+        int count = 0;
+        for (RouteOptimizerRequest.PlaceInfo place : group) {
+            if (isAccommodation(place)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isAccommodation(RouteOptimizerRequest.PlaceInfo place) {
+        return ACCOMMODATION.equals(place.getCategory());
+    }
+
+    private boolean hasLocation(RouteOptimizerRequest.PlaceInfo place) {
+        return place.getLatitude() != 0.0 || place.getLongitude() != 0.0;
+    }
+
+    private double[] location(RouteOptimizerRequest.PlaceInfo place) {
+        return hasLocation(place) ? new double[]{place.getLatitude(), place.getLongitude()} : null;
+    }
+
+    /**
+     * 좌표가 있는 장소들의 평균 위치 (없으면 null)
+     */
+    private double[] center(List<RouteOptimizerRequest.PlaceInfo> group) {
+        double sumLat = 0;
+        double sumLon = 0;
+        int count = 0;
+        for (RouteOptimizerRequest.PlaceInfo place : group) {
+            if (hasLocation(place)) {
+                sumLat += place.getLatitude();
+                sumLon += place.getLongitude();
+                count++;
+            }
+        }
+        return count == 0 ? null : new double[]{sumLat / count, sumLon / count};
+    }
+
+    /**
+     * 두 위치 사이 거리 (어느 한쪽 좌표가 없으면 가장 먼 것으로 취급)
+     */
+    private double distance(double[] a, double[] b) {
+        if (a == null || b == null) {
+            return Double.MAX_VALUE / 2;
+        }
+        return DistanceService.equirectangularKm(a[0], a[1], b[0], b[1]);
+    }
+}
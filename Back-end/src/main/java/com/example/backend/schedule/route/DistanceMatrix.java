@@ -0,0 +1,36 @@
+package com.example.backend.schedule.route;
+
+/**
+ * 하루 동선 계산용 거리 행렬 (km)
+ * n×n 값을 1차원 double 배열 하나에 저장해 경로 탐색 중 객체 접근 없이 조회합니다.
+ * 생성은 DistanceService.matrix() 를 사용합니다.
+ */
+public final class DistanceMatrix {
+
+    private final int size;
+    private final double[] distances;
+
+    DistanceMatrix(int size, double[] distances) {
+        this.size = size;
+        this.distances = distances;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double get(int from, int to) {
+        return distances[from * size + to];
+    }
+
+    /**
+     * 방문 순서대로 이동한 총 거리
+     */
+    public double pathLength(int[] order) {
+        double length = 0;
+        for (int i = 1; i < order.length; i++) {
+            length += get(order[i - 1], order[i]);
+        }
+        return length;
+    }
+}
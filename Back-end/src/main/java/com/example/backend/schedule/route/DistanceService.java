@@ -0,0 +1,56 @@
+package com.example.backend.schedule.route;
+
+import com.example.backend.schedule.dto.request.RouteOptimizerRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 장소 간 거리 계산 공용 서비스
+ * - 순위 비교(가까운 묶음/중심 찾기 등)에는 삼각함수 1회의 등장방형(equirectangular) 근사 사용
+ * - 경로 비용에는 정확한 Haversine 을 사용 (matrix)
+ * - matrix(): 장소 목록 전체의 거리 행렬을 한 번에 계산 (좌표를 라디안/cos 배열로 미리 변환)
+ *   한 쌍의 계산은 삼각함수 몇 번이라 캐시 키 생성/조회보다 싸므로 쌍 단위 캐시는 두지 않음
+ */
+@Component
+public class DistanceService {
+
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    /**
+     * 등장방형 근사 거리 (km). 국내 여행 범위(수백 km)에서는 Haversine 과 순서가 거의 같아 비교용으로만 사용합니다.
+     */
+    public static double equirectangularKm(double lat1, double lon1, double lat2, double lon2) {
+        double x = Math.toRadians(lon2 - lon1) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        double y = Math.toRadians(lat2 - lat1);
+        return EARTH_RADIUS_KM * Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * 장소 목록의 거리 행렬 (인덱스는 목록 순서, Haversine)
+     */
+    public DistanceMatrix matrix(List<RouteOptimizerRequest.PlaceInfo> places) {
+        int n = places.size();
+        double[] latRad = new double[n];
+        double[] lonRad = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            latRad[i] = Math.toRadians(places.get(i).getLatitude());
+            lonRad[i] = Math.toRadians(places.get(i).getLongitude());
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+
+        double[] distances = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double sinLat = Math.sin((latRad[j] - latRad[i]) / 2);
+                double sinLon = Math.sin((lonRad[j] - lonRad[i]) / 2);
+                double a = sinLat * sinLat + cosLat[i] * cosLat[j] * sinLon * sinLon;
+                double distance = EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+                distances[i * n + j] = distance;
+                distances[j * n + i] = distance;
+            }
+        }
+        return new DistanceMatrix(n, distances);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.schedule.route;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근접 이웃 탐색 (현재 위치에서 가장 가까운 곳을 차례로 방문)
+ * 기존 동선 계산 방식이며, TspRouteEngine의 초기 경로와 품질 비교 기준으로도 사용합니다.
+ */
+@Component
+public class GreedyRouteEngine implements RouteEngine {
+
+    public static final String NAME = "greedy";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int[] solve(DistanceMatrix matrix, int end, long deadlineNanos) {
+        int n = matrix.size();
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        if (end >= 0) {
+            visited[end] = true;
+            order[n - 1] = end;
+        }
+
+        int current = 0;
+        int last = end >= 0 ? n - 1 : n;
+        for (int position = 1; position < last; position++) {
+            int nearest = -1;
+            double minDistance = Double.MAX_VALUE;
+            for (int candidate = 1; candidate < n; candidate++) {
+                if (!visited[candidate] && matrix.get(current, candidate) < minDistance) {
+                    minDistance = matrix.get(current, candidate);
+                    nearest = candidate;
+                }
+            }
+            visited[nearest] = true;
+            order[position] = nearest;
+            current = nearest;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.schedule.route;
+
+/**
+ * 하루 동선(열린 경로) 계산 엔진
+ * 0번 노드(출발지)에서 시작해 모든 노드를 한 번씩 방문하는 순서를 구합니다.
+ */
+public interface RouteEngine {
+
+    /**
+     * schedule.route.engine 설정 값과 비교하는 엔진 이름
+     */
+    String name();
+
+    /**
+     * @param matrix 0번이 출발지인 거리 행렬
+     * @param end 마지막에 고정할 노드 (도착 숙소), 없으면 -1
+     * @param deadlineNanos System.nanoTime() 기준 계산 마감 시각 (넘으면 그때까지의 결과 반환)
+     * @return 0번부터 시작하는 전체 방문 순서
+     */
+    int[] solve(DistanceMatrix matrix, int end, long deadlineNanos);
+}
@@ -0,0 +1,211 @@
+package com.example.backend.schedule.route;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 하루 동선 최적화 엔진
+ * - 출발지를 뺀 노드가 exact-max-nodes 이하: Held-Karp 동적 계획법으로 최단 경로 (O(2^k·k²))
+ * - 그보다 많으면: 최근접 이웃 경로에서 시작해 2-opt / Or-opt 지역 탐색을 마감 시각까지 반복
+ * 출발지(0번)와 도착 숙소(end)는 항상 처음과 마지막에 고정합니다.
+ */
+@Component
+public class TspRouteEngine implements RouteEngine {
+
+    public static final String NAME = "tsp";
+
+    // 2^16 × 16 상태(약 8MB)를 넘지 않도록 제한
+    private static final int EXACT_MAX_NODES_LIMIT = 16;
+    private static final double EPSILON = 1e-9;
+    private static final int OR_OPT_MAX_SEGMENT = 3;
+
+    private final GreedyRouteEngine greedyRouteEngine;
+    private final int exactMaxNodes;
+
+    public TspRouteEngine(GreedyRouteEngine greedyRouteEngine,
+                          @Value("${schedule.route.exact-max-nodes:12}") int exactMaxNodes) {
+        this.greedyRouteEngine = greedyRouteEngine;
+        this.exactMaxNodes = Math.min(exactMaxNodes, EXACT_MAX_NODES_LIMIT);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int[] solve(DistanceMatrix matrix, int end, long deadlineNanos) {
+        int n = matrix.size();
+        if (n <= 3) {
+            return greedyRouteEngine.solve(matrix, end, deadlineNanos);
+        }
+        if (n - 1 <= exactMaxNodes) {
+            return heldKarp(matrix, end);
+        }
+
+        int[] order = greedyRouteEngine.solve(matrix, end, deadlineNanos);
+        int movableEnd = end >= 0 ? n - 2 : n - 1;
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadlineNanos) {
+            improved = twoOpt(matrix, order, movableEnd, deadlineNanos);
+            improved |= orOpt(matrix, order, movableEnd, deadlineNanos);
+        }
+        return order;
+    }
+
+    /**
+     * 출발지 고정, 도착지(선택) 고정 열린 경로의 최단 순서
+     * dp[mask][j]: 출발지에서 mask의 노드를 모두 방문하고 j에서 끝나는 최소 거리 (노드 j는 j+1번)
+     */
+    private int[] heldKarp(DistanceMatrix matrix, int end) {
+        int k = matrix.size() - 1;
+        int full = (1 << k) - 1;
+        int endIndex = end >= 0 ? end - 1 : -1;
+
+        double[] dp = new double[(1 << k) * k];
+        int[] parent = new int[(1 << k) * k];
+        Arrays.fill(dp, Double.MAX_VALUE);
+        for (int j = 0; j < k; j++) {
+            if (j != endIndex || k == 1) {
+                dp[(1 << j) * k + j] = matrix.get(0, j + 1);
+            }
+        }
+
+        for (int mask = 1; mask <= full; mask++) {
+            for (int j = 0; j < k; j++) {
+                double current = dp[mask * k + j];
+                if ((mask & (1 << j)) == 0 || current == Double.MAX_VALUE) {
+                    continue;
+                }
+                for (int next = 0; next < k; next++) {
+                    int nextMask = mask | (1 << next);
+                    // 도착 숙소는 모든 노드를 방문한 뒤에만 들어갈 수 있음
+                    if ((mask & (1 << next)) != 0 || (next == endIndex && nextMask != full)) {
+                        continue;
+                    }
+                    double candidate = current + matrix.get(j + 1, next + 1);
+                    if (candidate < dp[nextMask * k + next]) {
+                        dp[nextMask * k + next] = candidate;
+                        parent[nextMask * k + next] = j;
+                    }
+                }
+            }
+        }
+
+        int last = endIndex;
+        if (last < 0) {
+            last = 0;
+            for (int j = 1; j < k; j++) {
+                if (dp[full * k + j] < dp[full * k + last]) {
+                    last = j;
+                }
+            }
+        }
+
+        int[] order = new int[k + 1];
+        int mask = full;
+        for (int position = k; position >= 1; position--) {
+            order[position] = last + 1;
+            int previous = parent[mask * k + last];
+            mask &= ~(1 << last);
+            last = previous;
+        }
+        return order;
+    }
+
+    /**
+     * 구간 [i, j]를 뒤집어 경로가 짧아지면 적용 (처음 찾은 개선을 바로 적용)
+     */
+    private boolean twoOpt(DistanceMatrix matrix, int[] order, int movableEnd, long deadlineNanos) {
+        boolean improved = false;
+        int last = order.length - 1;
+        for (int i = 1; i < movableEnd && System.nanoTime() < deadlineNanos; i++) {
+            for (int j = i + 1; j <= movableEnd; j++) {
+                int before = order[i - 1];
+                int first = order[i];
+                int segmentEnd = order[j];
+                double delta = matrix.get(before, segmentEnd) - matrix.get(before, first);
+                if (j < last) {
+                    int after = order[j + 1];
+                    delta += matrix.get(first, after) - matrix.get(segmentEnd, after);
+                }
+                if (delta < -EPSILON) {
+                    reverse(order, i, j);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * 연속된 1~3개 노드를 다른 위치로 옮기거나 뒤집어 옮겨 경로가 짧아지면 적용
+     */
+    private boolean orOpt(DistanceMatrix matrix, int[] order, int movableEnd, long deadlineNanos) {
+        boolean improved = false;
+        int last = order.length - 1;
+        for (int length = 1; length <= OR_OPT_MAX_SEGMENT; length++) {
+            for (int i = 1; i + length - 1 <= movableEnd && System.nanoTime() < deadlineNanos; i++) {
+                int segmentLast = i + length - 1;
+                int before = order[i - 1];
+                int first = order[i];
+                int lastNode = order[segmentLast];
+                int after = segmentLast < last ? order[segmentLast + 1] : -1;
+
+                double removeGain = matrix.get(before, first);
+                if (after >= 0) {
+                    removeGain += matrix.get(lastNode, after) - matrix.get(before, after);
+                }
+
+                for (int p = 0; p <= movableEnd; p++) {
+                    if (p >= i - 1 && p <= segmentLast) {
+                        continue;
+                    }
+                    int x = order[p];
+                    int y = p < last ? order[p + 1] : -1;
+                    double forward = matrix.get(x, first);
+                    double reversed = matrix.get(x, lastNode);
+                    if (y >= 0) {
+                        forward += matrix.get(lastNode, y) - matrix.get(x, y);
+                        reversed += matrix.get(first, y) - matrix.get(x, y);
+                    }
+                    boolean reverse = reversed < forward;
+                    if (Math.min(forward, reversed) - removeGain < -EPSILON) {
+                        moveSegment(order, i, length, p, reverse);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int temp = order[from];
+            order[from++] = order[to];
+            order[to--] = temp;
+        }
+    }
+
+    /**
+     * order[start..start+length-1]을 떼어 원래 배열 기준 p번 노드 바로 뒤에 삽입
+     */
+    private static void moveSegment(int[] order, int start, int length, int p, boolean reverse) {
+        int[] segment = Arrays.copyOfRange(order, start, start + length);
+        if (reverse) {
+            reverse(segment, 0, length - 1);
+        }
+        int[] rest = new int[order.length - length];
+        System.arraycopy(order, 0, rest, 0, start);
+        System.arraycopy(order, start + length, rest, start, order.length - start - length);
+
+        int insertAfter = p < start ? p : p - length;
+        System.arraycopy(rest, 0, order, 0, insertAfter + 1);
+        System.arraycopy(segment, 0, order, insertAfter + 1, length);
+        System.arraycopy(rest, insertAfter + 1, order, insertAfter + 1 + length, rest.length - insertAfter - 1);
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -23,8 +24,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AiService {
 
+    @Qualifier("openAiWebClient")
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final DailyPlanCache dailyPlanCache;
 
     @Value("${openai.api.key}")
     private String openAiApiKey;
@@ -33,12 +36,18 @@ public class AiService {
 
     /**
      * AI를 이용해 주어진 장소 목록을 날짜별로 균등 배분한 '중간 계획 JSON'을 생성합니다.
+     * 입력(장소·좌표·카테고리, 기간, 시작 시각)이 같으면 DailyPlanCache 의 이전 결과를 재사용합니다.
      *
      * @return 날짜별로 장소가 배정된 JSON 문자열
      */
     public Mono<String> createDailyPlanJson(UUID scheduleId, LocalDate startDate, LocalDate endDate, LocalTime startTime, List<ItemWithLocationInfo> itemsWithLocation) {
         log.info("🚀 AI 일정 배분 시작 - Schedule ID: {}", scheduleId);
 
+        return dailyPlanCache.get(scheduleId, startDate, endDate, startTime, itemsWithLocation,
+                () -> requestDailyPlan(scheduleId, startDate, endDate, startTime, itemsWithLocation));
+    }
+
+    private Mono<String> requestDailyPlan(UUID scheduleId, LocalDate startDate, LocalDate endDate, LocalTime startTime, List<ItemWithLocationInfo> itemsWithLocation) {
         String prompt = PromptFactory.createDailyPlanPrompt(scheduleId, startDate, endDate, startTime, itemsWithLocation);
 
         return callOpenAiApi(prompt)
@@ -0,0 +1,184 @@
+package com.example.backend.schedule.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * AI 날짜별 배분 결과(dailyPlan JSON)의 2단계 캐시
+ * L1: 인스턴스 로컬 Caffeine / L2: 인스턴스 간 공유 Redis
+ * 키는 정규화한 입력(출발 장소, contentId 순으로 정렬한 장소·좌표·카테고리, 여행 기간, 시작 시각, 프롬프트 버전)의 SHA-256 이므로
+ * 내용이 같은 일정을 다시 최적화하면 OpenAI를 호출하지 않고 이전 결과를 재사용합니다.
+ */
+@Component
+@Slf4j
+public class DailyPlanCache {
+
+    private static final String KEY_PREFIX = "ai:daily-plan:";
+    // 프롬프트나 응답 형식을 바꾸면 올려서 이전 결과를 쓰지 않도록 함
+    private static final String PROMPT_VERSION = "v1";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, String> localCache;
+    private final Duration remoteTtl;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public DailyPlanCache(RedisTemplate<String, String> redisTemplate,
+                          ObjectMapper objectMapper,
+                          @Value("${ai.daily-plan-cache.local-max-size:500}") long localMaxSize,
+                          @Value("${ai.daily-plan-cache.local-ttl-seconds:3600}") long localTtlSeconds,
+                          @Value("${ai.daily-plan-cache.remote-ttl-seconds:604800}") long remoteTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.remoteTtl = Duration.ofSeconds(remoteTtlSeconds);
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader(OpenAI 호출)로 불러와 두 저장소에 저장합니다.
+     * 다른 스케줄의 결과를 재사용할 수 있으므로 응답의 scheduleId는 요청한 스케줄로 바꿔서 반환합니다.
+     * dailyPlans 가 없는 응답은 저장하지 않습니다.
+     */
+    public Mono<String> get(UUID scheduleId, LocalDate startDate, LocalDate endDate, LocalTime startTime,
+                            List<AiService.ItemWithLocationInfo> items, Supplier<Mono<String>> loader) {
+        String cacheKey = KEY_PREFIX + hash(startDate, endDate, startTime, items);
+
+        String local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            localHits.increment();
+            log.info("♻️ AI 일정 배분 캐시 사용(L1) - Schedule ID: {}", scheduleId);
+            return Mono.just(withScheduleId(local, scheduleId));
+        }
+
+        return Mono.fromCallable(() -> Optional.ofNullable(readRemote(cacheKey)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(remote -> {
+                    if (remote.isPresent()) {
+                        remoteHits.increment();
+                        localCache.put(cacheKey, remote.get());
+                        log.info("♻️ AI 일정 배분 캐시 사용(L2) - Schedule ID: {}", scheduleId);
+                        return Mono.just(withScheduleId(remote.get(), scheduleId));
+                    }
+                    misses.increment();
+                    return loader.get().doOnNext(dailyPlanJson -> store(cacheKey, dailyPlanJson));
+                });
+    }
+
+    /**
+     * 캐시 지표 (L1/L2 적중, 미스, 적중률)
+     */
+    public Map<String, Object> getStats() {
+        long hits = localHits.sum() + remoteHits.sum();
+        long total = hits + misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("localSize", localCache.estimatedSize());
+        stats.put("localHits", localHits.sum());
+        stats.put("remoteHits", remoteHits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hits / total);
+        return stats;
+    }
+
+    /**
+     * 입력 정규화 후 SHA-256 (장소 순서가 달라도 같은 키, 좌표는 소수점 6자리)
+     * 첫 장소는 출발지로 쓰이므로 정렬 전에 따로 넣어, 출발지만 다른 일정이 같은 키가 되지 않도록 합니다.
+     */
+    private static String hash(LocalDate startDate, LocalDate endDate, LocalTime startTime,
+                       List<AiService.ItemWithLocationInfo> items) {
+        StringBuilder normalized = new StringBuilder(64 + items.size() * 48)
+                .append(PROMPT_VERSION).append('|')
+                .append(startDate).append('|')
+                .append(endDate).append('|')
+                .append(startTime).append('|')
+                .append(items.isEmpty() ? "" : items.get(0).contentId());
+        items.stream()
+                .sorted(Comparator.comparing(AiService.ItemWithLocationInfo::contentId)
+                        .thenComparing(AiService.ItemWithLocationInfo::category))
+                .forEach(item -> normalized.append('\n')
+                        .append(item.contentId()).append(',')
+                        .append(String.format(Locale.ROOT, "%.6f,%.6f", item.latitude(), item.longitude())).append(',')
+                        .append(item.category()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private String withScheduleId(String dailyPlanJson, UUID scheduleId) {
+        try {
+            JsonNode root = objectMapper.readTree(dailyPlanJson);
+            if (root instanceof ObjectNode node) {
+                node.put("scheduleId", scheduleId.toString());
+                return objectMapper.writeValueAsString(node);
+            }
+        } catch (Exception e) {
+            log.warn("캐시된 AI 일정 배분의 scheduleId 변경 실패 - Schedule ID: {}, 원인: {}", scheduleId, e.getMessage());
+        }
+        return dailyPlanJson;
+    }
+
+    private String readRemote(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(cacheKey);
+        } catch (Exception e) {
+            // Redis 장애 시 OpenAI 호출로 대체
+            log.warn("AI 일정 배분 캐시 조회 실패 - key: {}, 원인: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String cacheKey, String dailyPlanJson) {
+        try {
+            JsonNode dailyPlans = objectMapper.readTree(dailyPlanJson).get("dailyPlans");
+            if (dailyPlans == null || !dailyPlans.isArray() || dailyPlans.isEmpty()) {
+                return;
+            }
+        } catch (Exception e) {
+            return;
+        }
+        localCache.put(cacheKey, dailyPlanJson);
+        Schedulers.boundedElastic().schedule(() -> writeRemote(cacheKey, dailyPlanJson));
+    }
+
+    private void writeRemote(String cacheKey, String dailyPlanJson) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, dailyPlanJson, remoteTtl);
+        } catch (Exception e) {
+            log.warn("AI 일정 배분 캐시 저장 실패 - key: {}, 원인: {}", cacheKey, e.getMessage());
+        }
+    }
+}
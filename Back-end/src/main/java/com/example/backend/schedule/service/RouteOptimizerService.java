@@ -2,22 +2,46 @@ package com.example.backend.schedule.service;
 
 import com.example.backend.schedule.dto.request.RouteOptimizerRequest;
 import com.example.backend.schedule.dto.response.RouteOptimizerResponse;
+import com.example.backend.schedule.route.DistanceMatrix;
+import com.example.backend.schedule.route.DistanceService;
+import com.example.backend.schedule.route.RouteEngine;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RouteOptimizerService {
 
     private final ObjectMapper objectMapper;
+    private final RouteEngine routeEngine;
+    private final DistanceService distanceService;
+    private final Duration dayTimeBudget;
+
+    /**
+     * schedule.route.engine: tsp(기본, 정확해/지역 탐색) 또는 greedy(기존 최근접 이웃)
+     * schedule.route.time-budget-ms: 하루 동선 계산 시간 한도
+     */
+    public RouteOptimizerService(ObjectMapper objectMapper,
+                                 List<RouteEngine> routeEngines,
+                                 DistanceService distanceService,
+                                 @Value("${schedule.route.engine:tsp}") String engineName,
+                                 @Value("${schedule.route.time-budget-ms:200}") long timeBudgetMs) {
+        this.objectMapper = objectMapper;
+        this.routeEngine = routeEngines.stream()
+                .filter(engine -> engine.name().equals(engineName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 동선 계산 엔진입니다: " + engineName));
+        this.distanceService = distanceService;
+        this.dayTimeBudget = Duration.ofMillis(timeBudgetMs);
+    }
 
     /**
      * AI가 생성한 일자별 계획을 받아, 각 날짜 내에서 동선을 최적화하고 최종 스케줄을 생성합니다.
@@ -27,6 +51,16 @@ public class RouteOptimizerService {
      */
     public RouteOptimizerResponse optimizeRoute(String dailyPlanJson, RouteOptimizerRequest.PlaceInfo startPlace) throws IOException {
         RouteOptimizerRequest requestDto = objectMapper.readValue(dailyPlanJson, RouteOptimizerRequest.class);
+        return optimizeRoute(requestDto, startPlace);
+    }
+
+    /**
+     * 날짜별로 배분된 계획(로컬 배분기 결과 등)을 받아 각 날짜 내의 동선을 최적화합니다.
+     * @param requestDto 날짜별 계획
+     * @param startPlace 1일차의 최초 출발지 정보
+     * @return 최종적으로 순서가 결정된 스케줄 객체
+     */
+    public RouteOptimizerResponse optimizeRoute(RouteOptimizerRequest requestDto, RouteOptimizerRequest.PlaceInfo startPlace) {
         List<RouteOptimizerResponse.OptimizedScheduleItem> finalItems = new ArrayList<>();
         int totalDays = requestDto.getDailyPlans().size();
 
@@ -56,16 +90,17 @@ public class RouteOptimizerService {
                 placesToVisit.remove(startNodeForThisDay);
             }
 
-            RouteOptimizerRequest.PlaceInfo currentLocation = startNodeForThisDay;
-            while (!placesToVisit.isEmpty()) {
-                RouteOptimizerRequest.PlaceInfo nearest = findNearest(currentLocation, placesToVisit);
-                optimizedOrder.add(nearest);
-                placesToVisit.remove(nearest);
-                currentLocation = nearest;
+            // 노드: 0 = 출발지, 1..n = 방문할 장소, (고정 시) 마지막 = 도착 숙소
+            List<RouteOptimizerRequest.PlaceInfo> nodes = new ArrayList<>();
+            nodes.add(startNodeForThisDay);
+            nodes.addAll(placesToVisit);
+            if (endAccommodation != null) {
+                nodes.add(endAccommodation);
             }
 
-            if (endAccommodation != null) {
-                optimizedOrder.add(endAccommodation);
+            int[] order = solveDay(day.getDayNumber(), nodes, endAccommodation != null);
+            for (int i = 1; i < order.length; i++) {
+                optimizedOrder.add(nodes.get(order[i]));
             }
 
             List<RouteOptimizerRequest.PlaceInfo> finalOrderForDay = new ArrayList<>();
@@ -90,38 +125,22 @@ public class RouteOptimizerService {
 
 
     /**
-     * 현재 위치에서 가장 가까운 장소를 찾습니다.
+     * 하루 동선 계산 (출발지는 처음, 도착 숙소는 마지막에 고정)
+     * @return nodes 인덱스의 방문 순서 (0번 출발지 포함)
      */
-    private RouteOptimizerRequest.PlaceInfo findNearest(RouteOptimizerRequest.PlaceInfo from, List<RouteOptimizerRequest.PlaceInfo> candidates) {
-        if (candidates.isEmpty()) {
-            return null;
-        }
-
-        RouteOptimizerRequest.PlaceInfo nearest = null;
-        double minDistance = Double.MAX_VALUE;
-
-        for (RouteOptimizerRequest.PlaceInfo candidate : candidates) {
-            double distance = calculateDistance(from.getLatitude(), from.getLongitude(), candidate.getLatitude(), candidate.getLongitude());
-
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearest = candidate;
-            }
+    private int[] solveDay(int dayNumber, List<RouteOptimizerRequest.PlaceInfo> nodes, boolean fixedEnd) {
+        int n = nodes.size();
+        DistanceMatrix matrix = distanceService.matrix(nodes);
+        int end = fixedEnd ? n - 1 : -1;
+
+        long startedAt = System.nanoTime();
+        int[] order = routeEngine.solve(matrix, end, startedAt + dayTimeBudget.toNanos());
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        if (log.isDebugEnabled()) {
+            log.debug("  🧭 {}일차 {}개 장소 동선 {}km, {}ms",
+                    dayNumber, n - 1, String.format("%.2f", matrix.pathLength(order)), elapsedMs);
         }
-        return nearest;
-    }
-
-    /**
-     * 두 지점 간의 직선 거리(Haversine 공식)를 계산합니다.
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371; // 지구 반지름 (km)
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+        return order;
     }
-}
\ No newline at end of file
+}
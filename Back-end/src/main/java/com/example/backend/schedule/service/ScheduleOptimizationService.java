@@ -0,0 +1,354 @@
+package com.example.backend.schedule.service;
+
+import com.example.backend.common.auth.AuthUtil;
+import com.example.backend.schedule.dto.request.RouteOptimizerRequest;
+import com.example.backend.schedule.dto.request.ScheduleRequest.OptimizationMode;
+import com.example.backend.schedule.dto.response.RouteOptimizerResponse;
+import com.example.backend.schedule.dto.response.ScheduleResponse.OptimizationJobResponse;
+import com.example.backend.schedule.entity.Schedule;
+import com.example.backend.schedule.entity.ScheduleOptimizationJob;
+import com.example.backend.schedule.repository.ScheduleOptimizationJobRepository;
+import com.example.backend.schedule.repository.ScheduleRepository;
+import com.example.backend.schedule.route.DayPartitioner;
+import com.example.backend.scheduleItem.entity.ScheduleItem;
+import com.example.backend.scheduleItem.repository.ScheduleItemRepository;
+import com.example.backend.tour.dto.response.PlaceSummary;
+import com.example.backend.tour.webclient.TourApiClient;
+import com.example.backend.user.entity.User;
+import com.example.backend.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 스케줄 동선 최적화를 비동기 작업으로 실행
+ * - 요청 스레드는 권한 확인 후 작업 행만 저장하고 작업 ID를 바로 반환
+ * - 전용 스레드풀에서 날짜별 배분(LOCAL/AI)과 동선 계산을 트랜잭션 밖에서 수행
+ * - 결과는 마지막의 짧은 트랜잭션에서 아이템 순서와 작업 상태를 함께 반영
+ * - 같은 스케줄에 진행 중인 작업이 있으면 새 작업을 만들지 않고 그 작업을 반환 (유니크 제약으로 보장)
+ */
+@Slf4j
+@Service
+public class ScheduleOptimizationService {
+
+    private static final int PROGRESS_PLACES_LOADED = 20;
+    private static final int PROGRESS_PARTITIONED = 60;
+    private static final int PROGRESS_ROUTED = 90;
+
+    private final ScheduleOptimizationJobRepository jobRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final UserRepository userRepository;
+    private final AiService aiService;
+    private final RouteOptimizerService routeOptimizerService;
+    private final DayPartitioner dayPartitioner;
+    private final TourApiClient tourApiClient;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor optimizationExecutor;
+    private final String defaultOptimizationMode;
+    private final Duration staleTimeout;
+    private final int retentionDays;
+
+    public ScheduleOptimizationService(ScheduleOptimizationJobRepository jobRepository,
+                                       ScheduleRepository scheduleRepository,
+                                       ScheduleItemRepository scheduleItemRepository,
+                                       UserRepository userRepository,
+                                       AiService aiService,
+                                       RouteOptimizerService routeOptimizerService,
+                                       DayPartitioner dayPartitioner,
+                                       TourApiClient tourApiClient,
+                                       TransactionTemplate transactionTemplate,
+                                       @Qualifier("scheduleOptimizationExecutor") TaskExecutor optimizationExecutor,
+                                       @Value("${schedule.optimize.default-mode:local}") String defaultOptimizationMode,
+                                       @Value("${schedule.optimize.stale-timeout-minutes:10}") long staleTimeoutMinutes,
+                                       @Value("${schedule.optimize.retention-days:7}") int retentionDays) {
+        this.jobRepository = jobRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.scheduleItemRepository = scheduleItemRepository;
+        this.userRepository = userRepository;
+        this.aiService = aiService;
+        this.routeOptimizerService = routeOptimizerService;
+        this.dayPartitioner = dayPartitioner;
+        this.tourApiClient = tourApiClient;
+        this.transactionTemplate = transactionTemplate;
+        this.optimizationExecutor = optimizationExecutor;
+        this.defaultOptimizationMode = defaultOptimizationMode;
+        this.staleTimeout = Duration.ofMinutes(staleTimeoutMinutes);
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 동선 최적화 작업을 등록합니다. 같은 스케줄에 진행 중인 작업이 있으면 그 작업을 반환합니다.
+     * 스케줄에 참여한 사용자만 경로를 최적화할 수 있습니다.
+     *
+     * @param scheduleId 최적화할 스케줄의 ID.
+     * @param mode       날짜별 배분 방식 (null 이면 schedule.optimize.default-mode).
+     * @return 등록된(또는 진행 중인) 작업 상태.
+     * @throws IllegalArgumentException    스케줄을 찾을 수 없거나, 스케줄에 아이템이 없거나, 지원하지 않는 배분 방식인 경우.
+     * @throws AccessDeniedException       현재 사용자가 스케줄을 최적화할 권한이 없는 경우.
+     * @throws ConcurrencyFailureException 작업 대기열이 가득 찼거나 다른 요청과 충돌한 경우.
+     */
+    public OptimizationJobResponse submit(UUID scheduleId, String mode) {
+        OptimizationMode optimizationMode = OptimizationMode.from(mode != null ? mode : defaultOptimizationMode);
+        User currentUser = AuthUtil.getCurrentUser(userRepository);
+        transactionTemplate.executeWithoutResult(status -> {
+            checkParticipant(scheduleId, currentUser);
+            if (scheduleItemRepository.findAllByScheduleId_ScheduleId(scheduleId).isEmpty()) {
+                throw new IllegalArgumentException("해당 스케줄에 아이템이 없습니다.");
+            }
+        });
+
+        Optional<ScheduleOptimizationJob> running = jobRepository.findByActiveScheduleId(scheduleId);
+        if (running.isPresent()) {
+            log.info("⏩ 진행 중인 최적화 작업 재사용 - Schedule ID: {}, Job ID: {}", scheduleId, running.get().getJobId());
+            return toResponse(running.get());
+        }
+
+        ScheduleOptimizationJob job;
+        try {
+            job = transactionTemplate.execute(status -> jobRepository.saveAndFlush(
+                    ScheduleOptimizationJob.submit(scheduleId, currentUser.getUserId(), optimizationMode)));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 다른 요청이 먼저 작업을 등록한 경우
+            return jobRepository.findByActiveScheduleId(scheduleId)
+                    .map(this::toResponse)
+                    .orElseThrow(() -> new ConcurrencyFailureException("다른 최적화 요청과 충돌했습니다. 다시 시도해 주세요.", e));
+        }
+
+        UUID jobId = job.getJobId();
+        try {
+            optimizationExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            updateJob(jobId, j -> j.fail("최적화 작업 대기열이 가득 찼습니다."));
+            throw new ConcurrencyFailureException("최적화 작업이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+        log.info("📥 최적화 작업 등록 - Schedule ID: {}, Job ID: {}, mode: {}", scheduleId, jobId, optimizationMode);
+        return toResponse(job);
+    }
+
+    /**
+     * 최적화 작업의 상태와 결과를 조회합니다. 스케줄 참여자만 조회할 수 있습니다.
+     *
+     * @throws IllegalArgumentException 작업 또는 스케줄을 찾을 수 없는 경우.
+     * @throws AccessDeniedException    현재 사용자가 스케줄 참여자가 아닌 경우.
+     */
+    public OptimizationJobResponse getJob(UUID jobId) {
+        User currentUser = AuthUtil.getCurrentUser(userRepository);
+        return transactionTemplate.execute(status -> {
+            ScheduleOptimizationJob job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 최적화 작업을 찾을 수 없습니다."));
+            checkParticipant(job.getScheduleId(), currentUser);
+            return toResponse(job);
+        });
+    }
+
+    /**
+     * 생성된 지 stale-timeout 이 지나도록 끝나지 않은 작업(서버 재시작 등으로 중단)을 실패 처리해
+     * 같은 스케줄의 새 작업을 막지 않도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${schedule.optimize.stale-check-delay-ms:60000}")
+    public void failStaleJobs() {
+        List<ScheduleOptimizationJob> staleJobs = jobRepository.findStaleJobs(LocalDateTime.now().minus(staleTimeout));
+        for (ScheduleOptimizationJob staleJob : staleJobs) {
+            updateJob(staleJob.getJobId(), j -> j.fail("제한 시간 안에 완료되지 않아 중단되었습니다."));
+            log.warn("⌛ 중단된 최적화 작업 실패 처리 - Job ID: {}", staleJob.getJobId());
+        }
+    }
+
+    @Scheduled(cron = "${schedule.optimize.cleanup-cron:0 40 3 * * *}")
+    public void deleteExpiredJobs() {
+        Integer deleted = transactionTemplate.execute(status ->
+                jobRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted != null && deleted > 0) {
+            log.info("최적화 작업 이력 정리 완료 - {}건", deleted);
+        }
+    }
+
+    private void run(UUID jobId) {
+        try {
+            ScheduleOptimizationJob job = updateJob(jobId, ScheduleOptimizationJob::start);
+            if (job == null || job.isFinished()) {
+                return;
+            }
+            optimize(job);
+        } catch (Exception e) {
+            log.error("❌ 최적화 작업 실패 - Job ID: {}", jobId, e);
+            try {
+                updateJob(jobId, j -> j.fail(e.getMessage()));
+            } catch (Exception updateFailure) {
+                log.error("최적화 작업 실패 상태 저장 실패 - Job ID: {}", jobId, updateFailure);
+            }
+        }
+    }
+
+    /**
+     * 1. 장소들을 날짜별로 그룹화합니다. (LOCAL: DayPartitioner, AI: AiService)
+     * 2. RouteOptimizerService를 호출하여 각 날짜 내의 동선을 최적화합니다.
+     * 3. 짧은 트랜잭션에서 아이템 순서와 작업 완료 상태를 함께 반영합니다.
+     */
+    private void optimize(ScheduleOptimizationJob job) throws IOException {
+        UUID scheduleId = job.getScheduleId();
+        ScheduleSnapshot snapshot = transactionTemplate.execute(status -> {
+            Schedule schedule = scheduleRepository.findById(scheduleId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 스케줄을 찾을 수 없습니다."));
+            List<String> contentIds = scheduleItemRepository.findAllByScheduleId_ScheduleId(scheduleId).stream()
+                    .map(ScheduleItem::getContentId)
+                    .collect(Collectors.toList());
+            return new ScheduleSnapshot(schedule.getStartDate(), schedule.getEndDate(), schedule.getStartTime(), contentIds);
+        });
+        if (snapshot.contentIds().isEmpty()) {
+            throw new IllegalArgumentException("해당 스케줄에 아이템이 없습니다.");
+        }
+
+        List<String> distinctContentIds = snapshot.contentIds().stream().distinct().collect(Collectors.toList());
+        Map<String, PlaceSummary> placeSummaries = tourApiClient.getPlaceSummariesByContentIds(distinctContentIds);
+
+        List<AiService.ItemWithLocationInfo> itemsWithLocation = snapshot.contentIds().stream()
+                .map(contentId -> {
+                    PlaceSummary place = placeSummaries.getOrDefault(contentId, PlaceSummary.empty(contentId));
+                    String title = place.title().isEmpty() ? "정보 없음" : place.title();
+                    double latitude = place.latitude() != null ? place.latitude() : 0.0;
+                    double longitude = place.longitude() != null ? place.longitude() : 0.0;
+                    String category = Optional.ofNullable(place.category()).map(Enum::name).orElse("ETC");
+                    return new AiService.ItemWithLocationInfo(contentId, title, latitude, longitude, category);
+                })
+                .collect(Collectors.toList());
+        updateJob(job.getJobId(), j -> j.updateProgress(PROGRESS_PLACES_LOADED));
+
+        AiService.ItemWithLocationInfo firstItem = itemsWithLocation.get(0);
+        RouteOptimizerRequest.PlaceInfo startPlaceInfo = new RouteOptimizerRequest.PlaceInfo(
+                firstItem.contentId(), firstItem.title(), firstItem.latitude(), firstItem.longitude(), firstItem.category()
+        );
+
+        RouteOptimizerResponse optimizedResponse;
+        if (job.getMode() == OptimizationMode.AI) {
+            log.info("▶️ [1/2] AiService 호출: 날짜별 그룹화 시작");
+            String dailyPlanJson = aiService.createDailyPlanJson(
+                    scheduleId,
+                    snapshot.startDate(),
+                    snapshot.endDate(),
+                    snapshot.startTime(),
+                    itemsWithLocation
+            ).block();
+            updateJob(job.getJobId(), j -> j.updateProgress(PROGRESS_PARTITIONED));
+
+            log.info("▶️ [2/2] RouteOptimizerService 호출: 동선 최적화 시작");
+            optimizedResponse = routeOptimizerService.optimizeRoute(dailyPlanJson, startPlaceInfo);
+        } else {
+            log.info("▶️ [1/2] DayPartitioner 호출: 날짜별 그룹화 시작");
+            // 출발지 객체를 첫 장소로 그대로 넣어야 동선 최적화 시 출발지로 인식됨 (AI 규칙과 같이 중복 장소는 제외)
+            Set<String> seenContentIds = new HashSet<>();
+            seenContentIds.add(startPlaceInfo.getContentId());
+            List<RouteOptimizerRequest.PlaceInfo> places = new ArrayList<>(itemsWithLocation.size());
+            places.add(startPlaceInfo);
+            itemsWithLocation.stream().skip(1)
+                    .filter(item -> seenContentIds.add(item.contentId()))
+                    .map(item -> new RouteOptimizerRequest.PlaceInfo(
+                            item.contentId(), item.title(), item.latitude(), item.longitude(), item.category()))
+                    .forEach(places::add);
+            long travelDays = Math.max(1, ChronoUnit.DAYS.between(snapshot.startDate(), snapshot.endDate()) + 1);
+            RouteOptimizerRequest dailyPlan = dayPartitioner.partition(scheduleId, (int) travelDays, places);
+            updateJob(job.getJobId(), j -> j.updateProgress(PROGRESS_PARTITIONED));
+
+            log.info("▶️ [2/2] RouteOptimizerService 호출: 동선 최적화 시작");
+            optimizedResponse = routeOptimizerService.optimizeRoute(dailyPlan, startPlaceInfo);
+        }
+
+        List<RouteOptimizerResponse.OptimizedScheduleItem> optimizedItems = optimizedResponse.getScheduleItems();
+        if (optimizedItems == null || optimizedItems.isEmpty()) {
+            throw new RuntimeException("경로 최적화 결과가 비어있습니다.");
+        }
+        updateJob(job.getJobId(), j -> j.updateProgress(PROGRESS_ROUTED));
+
+        log.info("✅ 최적화 완료. DB에 결과 반영 시작");
+        transactionTemplate.executeWithoutResult(status -> {
+            ScheduleOptimizationJob current = jobRepository.findById(job.getJobId()).orElse(null);
+            if (current == null || current.isFinished()) {
+                log.warn("이미 종료된 최적화 작업이라 결과를 반영하지 않습니다 - Job ID: {}", job.getJobId());
+                return;
+            }
+
+            // 계산하는 동안 바뀌었을 수 있으므로 최신 아이템 기준으로 반영
+            Map<String, ScheduleItem> originalItemMap = scheduleItemRepository.findAllByScheduleId_ScheduleId(scheduleId).stream()
+                    .collect(Collectors.toMap(ScheduleItem::getContentId, item -> item, (item1, item2) -> item1));
+
+            List<ScheduleItem> itemsToSave = new ArrayList<>();
+            for (RouteOptimizerResponse.OptimizedScheduleItem optimizedItem : optimizedItems) {
+                ScheduleItem originalItem = originalItemMap.get(optimizedItem.getContentId());
+                if (originalItem != null) {
+                    ScheduleItem updatedItem = ScheduleItem.builder()
+                            .scheduleItemId(originalItem.getScheduleItemId())
+                            .contentId(originalItem.getContentId())
+                            .cost(originalItem.getCost())
+                            .memo(originalItem.getMemo())
+                            .scheduleId(originalItem.getScheduleId())
+                            .dayNumber(optimizedItem.getDayNumber())
+                            .order(optimizedItem.getOrder())
+                            .build();
+                    itemsToSave.add(updatedItem);
+                }
+            }
+
+            scheduleItemRepository.saveAll(itemsToSave);
+            current.succeed(itemsToSave.size());
+            log.info("✅ DB 반영 완료! - Job ID: {}, {}개 아이템", job.getJobId(), itemsToSave.size());
+        });
+    }
+
+    private void checkParticipant(UUID scheduleId, User currentUser) {
+        Schedule schedule = scheduleRepository.findWithUsersById(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 스케줄을 찾을 수 없습니다."));
+        if (schedule.getUsers().stream().noneMatch(user -> user.equals(currentUser))) {
+            throw new AccessDeniedException("스케줄을 최적화할 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 작업 상태를 별도의 짧은 트랜잭션으로 변경 (이미 끝난 작업은 변경하지 않음)
+     */
+    private ScheduleOptimizationJob updateJob(UUID jobId, Consumer<ScheduleOptimizationJob> change) {
+        return transactionTemplate.execute(status -> jobRepository.findById(jobId)
+                .map(job -> {
+                    if (!job.isFinished()) {
+                        change.accept(job);
+                    }
+                    return job;
+                })
+                .orElse(null));
+    }
+
+    private OptimizationJobResponse toResponse(ScheduleOptimizationJob job) {
+        return OptimizationJobResponse.builder()
+                .jobId(job.getJobId())
+                .scheduleId(job.getScheduleId())
+                .mode(job.getMode().name())
+                .status(job.getStatus().name())
+                .progress(job.getProgress())
+                .itemCount(job.getItemCount())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private record ScheduleSnapshot(LocalDate startDate, LocalDate endDate, LocalTime startTime, List<String> contentIds) {}
+}
@@ -4,10 +4,8 @@ import com.example.backend.board.repository.BoardRepository;
 import com.example.backend.common.auth.AuthUtil;
 import com.example.backend.region.service.RegionService;
 import com.example.backend.region.service.RegionService.CodePair;
-import com.example.backend.schedule.dto.request.RouteOptimizerRequest;
 import com.example.backend.schedule.dto.request.ScheduleRequest.ScheduleCreateRequest;
 import com.example.backend.schedule.dto.request.ScheduleRequest.ScheduleUpdateRequest;
-import com.example.backend.schedule.dto.response.RouteOptimizerResponse;
 import com.example.backend.schedule.dto.response.ScheduleResponse.ScheduleDetailResponse;
 import com.example.backend.schedule.dto.response.ScheduleResponse.ScheduleListInfo;
 import com.example.backend.schedule.dto.response.ScheduleResponse.ScheduleItemInfo;
@@ -17,7 +15,7 @@ import com.example.backend.schedule.repository.ScheduleRepository;
 import com.example.backend.scheduleItem.entity.ScheduleItem;
 import com.example.backend.scheduleItem.repository.ScheduleItemRepository;
 import com.example.backend.scheduleItem.service.ScheduleItemService;
-import com.example.backend.tour.entity.TourCategory;
+import com.example.backend.tour.dto.response.PlaceSummary;
 import com.example.backend.tour.webclient.TourApiClient;
 import com.example.backend.user.entity.User;
 import com.example.backend.user.repository.UserRepository;
@@ -27,7 +25,6 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -44,8 +41,6 @@ public class ScheduleService {
     private final UserRepository userRepository;
     private final ScheduleItemRepository scheduleItemRepository;
     private final ScheduleItemService scheduleItemService;
-    private final AiService aiService;
-    private final RouteOptimizerService routeOptimizerService;
     private final TourApiClient tourApiClient;
     private final RegionService regionService;
     private final BoardRepository boardRepository;
@@ -155,10 +150,10 @@ public class ScheduleService {
                         (existing, replacement) -> existing
                 ));
         List<String> representativeContentIds = new ArrayList<>(scheduleToContentIdMap.values());
-        Map<String, Map<String, String>> tourExtraInfoMap = tourApiClient.getTourExtraInfoMapByContentIds(representativeContentIds);
-        List<CodePair> codePairs = tourExtraInfoMap.values().stream()
-                .map(info -> new CodePair(info.get("lDongRegnCd"), info.get("lDongSignguCd")))
-                .filter(pair -> pair.lDongRegnCd() != null && pair.lDongSignguCd() != null)
+        Map<String, PlaceSummary> placeSummaries = tourApiClient.getPlaceSummariesByContentIds(representativeContentIds);
+        List<CodePair> codePairs = placeSummaries.values().stream()
+                .filter(PlaceSummary::hasRegionCode)
+                .map(place -> new CodePair(place.lDongRegnCd(), place.lDongSignguCd()))
                 .distinct()
                 .collect(Collectors.toList());
         Map<String, String> regionImageMap = regionService.getRegionImagesByCodePairs(codePairs);
@@ -169,14 +164,10 @@ public class ScheduleService {
                     String regionImage = null;
 
                     if (contentId != null) {
-                        Map<String, String> extraInfo = tourExtraInfoMap.get(contentId);
-                        if (extraInfo != null) {
-                            String lDongRegnCd = extraInfo.get("lDongRegnCd");
-                            String lDongSignguCd = extraInfo.get("lDongSignguCd");
-                            if (lDongRegnCd != null && lDongSignguCd != null) {
-                                String key = lDongRegnCd + "_" + lDongSignguCd;
-                                regionImage = regionImageMap.get(key);
-                            }
+                        PlaceSummary place = placeSummaries.get(contentId);
+                        if (place != null && place.hasRegionCode()) {
+                            String key = place.lDongRegnCd() + "_" + place.lDongSignguCd();
+                            regionImage = regionImageMap.get(key);
                         }
                     }
 
@@ -229,13 +220,12 @@ public class ScheduleService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        Map<String, String> tourTitlesMap = tourApiClient.getTourTitlesMapByContentIds(contentIds);
-        Map<String, Map<String, String>> tourExtraInfoMap = tourApiClient.getTourExtraInfoMapByContentIds(contentIds);
-        Map<String, Map<String, Double>> tourLocationMap = tourApiClient.getTourLocationMapByContentIds(contentIds);
+        // 제목/테마/법정동 코드/주소/좌표를 한 번의 쿼리로 조회
+        Map<String, PlaceSummary> placeSummaries = tourApiClient.getPlaceSummariesByContentIds(contentIds);
 
-        List<CodePair> codePairsToSearch = tourExtraInfoMap.values().stream()
-                .map(info -> new CodePair(info.get("lDongRegnCd"), info.get("lDongSignguCd")))
-                .filter(pair -> pair.lDongRegnCd() != null && !pair.lDongRegnCd().isEmpty())
+        List<CodePair> codePairsToSearch = placeSummaries.values().stream()
+                .filter(place -> !place.lDongRegnCd().isEmpty())
+                .map(place -> new CodePair(place.lDongRegnCd(), place.lDongSignguCd()))
                 .distinct()
                 .collect(Collectors.toList());
         Map<String, String> regionNameMap = regionService.getRegionNamesByCodePairs(codePairsToSearch);
@@ -243,17 +233,16 @@ public class ScheduleService {
         List<ScheduleItemInfo> itemsDto = scheduleItems.stream()
                 .map(item -> {
                     String contentId = item.getContentId();
-                    String title = tourTitlesMap.getOrDefault(contentId, "장소 이름 없음");
-                    Map<String, String> extraInfo = tourExtraInfoMap.getOrDefault(contentId, Collections.emptyMap());
-                    String tema = extraInfo.getOrDefault("tema", "");
-                    String lDongRegnCd = extraInfo.getOrDefault("lDongRegnCd", "");
-                    String lDongSignguCd = extraInfo.getOrDefault("lDongSignguCd", "");
-                    String address = extraInfo.getOrDefault("address", "주소 정보 없음");
+                    PlaceSummary place = placeSummaries.getOrDefault(contentId, PlaceSummary.empty(contentId));
+                    String title = place.title().isEmpty() ? "장소 이름 없음" : place.title();
+                    String tema = place.tema();
+                    String lDongRegnCd = place.lDongRegnCd();
+                    String lDongSignguCd = place.lDongSignguCd();
+                    String address = placeSummaries.containsKey(contentId) ? place.address() : "주소 정보 없음";
                     String regionKey = lDongRegnCd + "_" + lDongSignguCd;
                     String region = regionNameMap.getOrDefault(regionKey, "");
-                    Map<String, Double> location = tourLocationMap.getOrDefault(contentId, Collections.emptyMap());
-                    Double latitude = location.get("latitude");
-                    Double longitude = location.get("longitude");
+                    Double latitude = place.latitude();
+                    Double longitude = place.longitude();
 
                     return ScheduleItemInfo.builder()
                             .scheduleItemId(item.getScheduleItemId())
@@ -285,18 +274,13 @@ public class ScheduleService {
         String regionImage = null;
         if (!scheduleItems.isEmpty()) {
             String firstItemContentId = scheduleItems.get(0).getContentId();
-            Map<String, String> firstItemExtraInfo = tourExtraInfoMap.get(firstItemContentId);
-
-            if (firstItemExtraInfo != null) {
-                String lDongRegnCd = firstItemExtraInfo.get("lDongRegnCd");
-                String lDongSignguCd = firstItemExtraInfo.get("lDongSignguCd");
-
-                if (lDongRegnCd != null && lDongSignguCd != null) {
-                    CodePair codePair = new CodePair(lDongRegnCd, lDongSignguCd);
-                    Map<String, String> regionImageMap = regionService.getRegionImagesByCodePairs(Collections.singletonList(codePair));
-                    String key = lDongRegnCd + "_" + lDongSignguCd;
-                    regionImage = regionImageMap.get(key);
-                }
+            PlaceSummary firstPlace = placeSummaries.get(firstItemContentId);
+
+            if (firstPlace != null && firstPlace.hasRegionCode()) {
+                CodePair codePair = new CodePair(firstPlace.lDongRegnCd(), firstPlace.lDongSignguCd());
+                Map<String, String> regionImageMap = regionService.getRegionImagesByCodePairs(Collections.singletonList(codePair));
+                String key = firstPlace.lDongRegnCd() + "_" + firstPlace.lDongSignguCd();
+                regionImage = regionImageMap.get(key);
             }
         }
 
@@ -315,102 +299,6 @@ public class ScheduleService {
                 .build();
     }
 
-    /**
-     * AI와 경로 최적화 서비스를 활용하여 스케줄의 경로를 최적화합니다.
-     * 1. AiService를 호출하여 장소들을 날짜별로 그룹화합니다.
-     * 2. RouteOptimizerService를 호출하여 각 날짜 내의 동선을 최적화합니다.
-     * 스케줄에 참여한 사용자만 경로를 최적화할 수 있습니다.
-     *
-     * @param scheduleId 최적화할 스케줄의 ID.
-     * @throws IllegalArgumentException 스케줄을 찾을 수 없거나 스케줄에 아이템이 없는 경우.
-     * @throws AccessDeniedException    현재 사용자가 스케줄을 최적화할 권한이 없는 경우.
-     * @throws RuntimeException         AI 응답 JSON 파싱 또는 경로 최적화에 실패한 경우.
-     */
-    @Transactional
-    public void optimizeRoute(UUID scheduleId) {
-        User currentUser = AuthUtil.getCurrentUser(userRepository);
-        Schedule schedule = scheduleRepository.findWithUsersById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 스케줄을 찾을 수 없습니다."));
-
-        if (schedule.getUsers().stream().noneMatch(user -> user.equals(currentUser))) {
-            throw new AccessDeniedException("스케줄을 최적화할 권한이 없습니다.");
-        }
-
-        List<ScheduleItem> items = scheduleItemRepository.findAllByScheduleId_ScheduleId(scheduleId);
-        if (items.isEmpty()) {
-            throw new IllegalArgumentException("해당 스케줄에 아이템이 없습니다.");
-        }
-
-        List<String> contentIds = items.stream().map(ScheduleItem::getContentId).distinct().collect(Collectors.toList());
-        Map<String, Map<String, Double>> locationMap = tourApiClient.getTourLocationMapByContentIds(contentIds);
-        Map<String, String> tourTitlesMap = tourApiClient.getTourTitlesMapByContentIds(contentIds);
-        Map<String, TourCategory> tourCategoriesMap = tourApiClient.getTourCategoriesMapByContentIds(contentIds);
-
-        List<AiService.ItemWithLocationInfo> itemsWithLocation = items.stream()
-                .map(item -> {
-                    String contentId = item.getContentId();
-                    Map<String, Double> loc = locationMap.getOrDefault(contentId, Collections.emptyMap());
-                    String title = tourTitlesMap.getOrDefault(contentId, "정보 없음");
-                    double latitude = loc.getOrDefault("latitude", 0.0);
-                    double longitude = loc.getOrDefault("longitude", 0.0);
-                    String category = Optional.ofNullable(tourCategoriesMap.get(contentId)).map(Enum::name).orElse("ETC");
-                    return new AiService.ItemWithLocationInfo(contentId, title, latitude, longitude, category);
-                })
-                .collect(Collectors.toList());
-
-        log.info("▶️ [1/2] AiService 호출: 날짜별 그룹화 시작");
-        String dailyPlanJson = aiService.createDailyPlanJson(
-                schedule.getScheduleId(),
-                schedule.getStartDate(),
-                schedule.getEndDate(),
-                schedule.getStartTime(),
-                itemsWithLocation
-        ).block();
-
-        log.info("▶️ [2/2] RouteOptimizerService 호출: 동선 최적화 시작");
-        AiService.ItemWithLocationInfo firstItem = itemsWithLocation.get(0);
-        RouteOptimizerRequest.PlaceInfo startPlaceInfo = new RouteOptimizerRequest.PlaceInfo(
-                firstItem.contentId(), firstItem.title(), firstItem.latitude(), firstItem.longitude(), firstItem.category()
-        );
-
-        try {
-            RouteOptimizerResponse optimizedResponse = routeOptimizerService.optimizeRoute(dailyPlanJson, startPlaceInfo);
-            List<RouteOptimizerResponse.OptimizedScheduleItem> optimizedItems = optimizedResponse.getScheduleItems();
-
-            if (optimizedItems == null || optimizedItems.isEmpty()) {
-                throw new RuntimeException("경로 최적화 결과가 비어있습니다.");
-            }
-
-            log.info("✅ 최적화 완료. DB에 결과 반영 시작");
-            Map<String, ScheduleItem> originalItemMap = items.stream()
-                    .collect(Collectors.toMap(ScheduleItem::getContentId, item -> item, (item1, item2) -> item1));
-
-            List<ScheduleItem> itemsToSave = new ArrayList<>();
-            for (RouteOptimizerResponse.OptimizedScheduleItem optimizedItem : optimizedItems) {
-                ScheduleItem originalItem = originalItemMap.get(optimizedItem.getContentId());
-                if (originalItem != null) {
-                    ScheduleItem updatedItem = ScheduleItem.builder()
-                            .scheduleItemId(originalItem.getScheduleItemId())
-                            .contentId(originalItem.getContentId())
-                            .cost(originalItem.getCost())
-                            .memo(originalItem.getMemo())
-                            .scheduleId(originalItem.getScheduleId())
-                            .dayNumber(optimizedItem.getDayNumber())
-                            .order(optimizedItem.getOrder())
-                            .build();
-                    itemsToSave.add(updatedItem);
-                }
-            }
-
-            scheduleItemRepository.saveAll(itemsToSave);
-            log.info("✅ DB 반영 완료!");
-
-        } catch (IOException e) {
-            log.error("경로 최적화 또는 결과 파싱 중 오류 발생", e);
-            throw new RuntimeException("경로 최적화에 실패했습니다.", e);
-        }
-    }
-
     /**
      * 현재 사용자를 특정 스케줄의 참여자로 추가합니다.
      *
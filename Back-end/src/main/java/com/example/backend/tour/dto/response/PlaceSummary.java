@@ -0,0 +1,27 @@
+package com.example.backend.tour.dto.response;
+
+import com.example.backend.tour.entity.TourCategory;
+
+/**
+ * 일정 조회/최적화에 필요한 장소 요약 정보 (place 컬럼 projection, 엔티티를 만들지 않음)
+ * 문자열 값은 null 대신 빈 문자열, 좌표와 카테고리는 정보가 없으면 null 입니다.
+ */
+public record PlaceSummary(String contentId, String title, Double latitude, Double longitude, String tema,
+                           String lDongRegnCd, String lDongSignguCd, String address, TourCategory category) {
+
+    public PlaceSummary {
+        title = title != null ? title : "";
+        tema = tema != null ? tema : "";
+        lDongRegnCd = lDongRegnCd != null ? lDongRegnCd : "";
+        lDongSignguCd = lDongSignguCd != null ? lDongSignguCd : "";
+        address = address != null ? address : "";
+    }
+
+    public static PlaceSummary empty(String contentId) {
+        return new PlaceSummary(contentId, null, null, null, null, null, null, null, null);
+    }
+
+    public boolean hasRegionCode() {
+        return !lDongRegnCd.isEmpty() && !lDongSignguCd.isEmpty();
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.backend.tour.entity;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+/**
+ * 장바구니에 담긴 장소의 공유 정보 (contentId 당 한 행)
+ * 장바구니의 Tour 행은 contentId로 이 행을 참조하고, 장바구니별 정보(카테고리, 가격)만 가집니다.
+ */
+@Entity
+@Table(name = "place")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Place {
+
+    // 한국관광공사 TourAPI contentId 형식 (숫자)
+    private static final Pattern CONTENT_ID_PATTERN = Pattern.compile("\\d{1,20}");
+
+    @Id
+    @Column(name = "content_id", length = 100)
+    private String contentId;
+
+    @Column(name = "content_type_id", length = 100)
+    private String contentTypeId;
+
+    @Column(name = "title", length = 200)
+    private String title;
+
+    @Column(name = "address", length = 500)
+    private String address;
+
+    @Column(name = "address2", length = 500)
+    private String address2;
+
+    @Column(name = "zipcode", length = 20)
+    private String zipcode;
+
+    @Column(name = "area_code", length = 100)
+    private String areaCode;
+
+    @Column(name = "sigungu_code", length = 100)
+    private String sigunguCode;
+
+    @Column(name = "cat1", length = 100)
+    private String cat1;
+
+    @Column(name = "cat2", length = 100)
+    private String cat2;
+
+    @Column(name = "cat3", length = 100)
+    private String cat3;
+
+    @Column(name = "created_time", length = 20)
+    private String createdTime;
+
+    @Column(name = "modified_time", length = 20)
+    private String modifiedTime;
+
+    @Column(name = "first_image", length = 500)
+    private String firstImage;
+
+    @Column(name = "first_image2", length = 500)
+    private String firstImage2;
+
+    @Column(name = "cpyrht_div_cd", length = 50)
+    private String cpyrhtDivCd;
+
+    @Column(name = "mapx", length = 100)
+    private String mapX;
+
+    @Column(name = "mapy", length = 100)
+    private String mapY;
+
+    @Column(name = "mlevel", length = 10)
+    private String mlevel;
+
+    @Column(name = "tel", length = 100)
+    private String tel;
+
+    @Column(name = "overview", length = 2000)
+    private String overview;
+
+    @Column(name = "l_dong_regn_cd", length = 50)
+    private String lDongRegnCd;
+
+    @Column(name = "l_dong_signgu_cd", length = 50)
+    private String lDongSignguCd;
+
+    @Column(name = "lcls_systm1", length = 50)
+    private String lclsSystm1;
+
+    @Column(name = "lcls_systm2", length = 50)
+    private String lclsSystm2;
+
+    @Column(name = "lcls_systm3", length = 50)
+    private String lclsSystm3;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "image", length = 500)
+    private String image;
+
+    @Column(name = "tema", length = 100)
+    private String tema;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // placeholder 상세 보강 실패 횟수 / 다음 보강 시각 (주기 작업은 이 시각이 지난 행만 처리)
+    @Column(name = "enrich_attempts")
+    private Integer enrichAttempts;
+
+    @Column(name = "next_enrich_at")
+    private LocalDateTime nextEnrichAt;
+
+    /**
+     * 상세 정보 없이 contentId만 가진 장소 (상세 정보는 비동기로 채움, TourDetailEnrichmentService 참고)
+     */
+    public static Place placeholder(String contentId) {
+        if (!isValidContentId(contentId)) {
+            throw new IllegalArgumentException("유효하지 않은 contentId 입니다: " + contentId);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return Place.builder()
+                .contentId(contentId)
+                .enrichAttempts(0)
+                .nextEnrichAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public static boolean isValidContentId(String contentId) {
+        return contentId != null && CONTENT_ID_PATTERN.matcher(contentId).matches();
+    }
+
+    public boolean isPlaceholder() {
+        return title == null;
+    }
+
+    /**
+     * 상세 보강 실패 기록. nextAttemptAt 이 null 이면 더 이상 시도하지 않음
+     */
+    public void recordEnrichFailure(LocalDateTime nextAttemptAt) {
+        this.enrichAttempts = (enrichAttempts == null ? 0 : enrichAttempts) + 1;
+        this.nextEnrichAt = nextAttemptAt;
+    }
+
+    /**
+     * 상세 조회 결과로 장소 생성
+     */
+    public static Place from(String contentId, CartResponse.TourDetailResponse detail) {
+        return Place.builder()
+                .contentId(contentId)
+                .contentTypeId(detail.getContentTypeId())
+                .title(detail.getTitle())
+                .address(detail.getAddress())
+                .longitude(detail.getLongitude())
+                .latitude(detail.getLatitude())
+                .image(detail.getImage())
+                .firstImage(detail.getImage())
+                .tel(detail.getTel())
+                .overview(detail.getOverview())
+                .tema(detail.getTheme())
+                .lDongRegnCd(detail.getLDongRegnCd())
+                .lDongSignguCd(detail.getLDongSignguCd())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 상세 조회 결과로 장소 정보 채우기 (placeholder 보강용)
+     */
+    public void applyDetail(CartResponse.TourDetailResponse detail) {
+        this.contentTypeId = detail.getContentTypeId();
+        this.title = detail.getTitle();
+        this.address = detail.getAddress();
+        this.longitude = detail.getLongitude();
+        this.latitude = detail.getLatitude();
+        this.image = detail.getImage();
+        this.firstImage = detail.getImage();
+        this.tel = detail.getTel();
+        this.overview = detail.getOverview();
+        this.tema = detail.getTheme();
+        this.lDongRegnCd = detail.getLDongRegnCd();
+        this.lDongSignguCd = detail.getLDongSignguCd();
+        this.nextEnrichAt = null;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.backend.tour.entity;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * KorService2 관광정보 목록(areaBasedList2)의 로컬 사본
+ * contentId 당 한 행이며, TourCatalogSyncService가 전체/증분 동기화로 갱신합니다.
+ */
+@Entity
+@Table(name = "tour_catalog", indexes = {
+        @Index(name = "idx_catalog_area", columnList = "area_code, sigungu_code"),
+        @Index(name = "idx_catalog_ldong", columnList = "l_dong_regn_cd, l_dong_signgu_cd"),
+        @Index(name = "idx_catalog_cat", columnList = "cat1, cat2, cat3"),
+        @Index(name = "idx_catalog_modified_time", columnList = "modified_time"),
+        @Index(name = "idx_catalog_title", columnList = "title")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TourCatalog {
+
+    @Id
+    @Column(name = "content_id", length = 100)
+    private String contentId;
+
+    @Column(name = "content_type_id", length = 100)
+    private String contentTypeId;
+
+    @Column(name = "title", length = 200)
+    private String title;
+
+    @Column(name = "address", length = 500)
+    private String address;
+
+    @Column(name = "address2", length = 500)
+    private String address2;
+
+    @Column(name = "zipcode", length = 20)
+    private String zipcode;
+
+    @Column(name = "area_code", length = 100)
+    private String areaCode;
+
+    @Column(name = "sigungu_code", length = 100)
+    private String sigunguCode;
+
+    @Column(name = "cat1", length = 100)
+    private String cat1;
+
+    @Column(name = "cat2", length = 100)
+    private String cat2;
+
+    @Column(name = "cat3", length = 100)
+    private String cat3;
+
+    @Column(name = "created_time", length = 20)
+    private String createdTime;
+
+    @Column(name = "modified_time", length = 20)
+    private String modifiedTime;
+
+    @Column(name = "first_image", length = 500)
+    private String firstImage;
+
+    @Column(name = "first_image2", length = 500)
+    private String firstImage2;
+
+    @Column(name = "cpyrht_div_cd", length = 50)
+    private String cpyrhtDivCd;
+
+    @Column(name = "mapx", length = 100)
+    private String mapX;
+
+    @Column(name = "mapy", length = 100)
+    private String mapY;
+
+    @Column(name = "mlevel", length = 10)
+    private String mlevel;
+
+    @Column(name = "tel", length = 100)
+    private String tel;
+
+    @Column(name = "l_dong_regn_cd", length = 50)
+    private String lDongRegnCd;
+
+    @Column(name = "l_dong_signgu_cd", length = 50)
+    private String lDongSignguCd;
+
+    @Column(name = "lcls_systm1", length = 50)
+    private String lclsSystm1;
+
+    @Column(name = "lcls_systm2", length = 50)
+    private String lclsSystm2;
+
+    @Column(name = "lcls_systm3", length = 50)
+    private String lclsSystm3;
+
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    public static TourCatalog from(CartResponse.TourSearchResponse tour) {
+        TourCatalog catalog = TourCatalog.builder()
+                .contentId(tour.getContentId())
+                .build();
+        catalog.updateFrom(tour);
+        return catalog;
+    }
+
+    /**
+     * 목록 API 응답으로 내용 갱신 (contentId는 변경하지 않음)
+     */
+    public void updateFrom(CartResponse.TourSearchResponse tour) {
+        this.contentTypeId = tour.getContentTypeId();
+        this.title = tour.getTitle();
+        this.address = tour.getAddress();
+        this.address2 = tour.getAddress2();
+        this.zipcode = tour.getZipcode();
+        this.areaCode = tour.getAreaCode();
+        this.sigunguCode = tour.getSigunguCode();
+        this.cat1 = tour.getCat1();
+        this.cat2 = tour.getCat2();
+        this.cat3 = tour.getCat3();
+        this.createdTime = tour.getCreatedTime();
+        this.modifiedTime = tour.getModifiedTime();
+        this.firstImage = tour.getFirstImage();
+        this.firstImage2 = tour.getFirstImage2();
+        this.cpyrhtDivCd = tour.getCpyrhtDivCd();
+        this.mapX = tour.getMapX();
+        this.mapY = tour.getMapY();
+        this.mlevel = tour.getMlevel();
+        this.tel = tour.getTel();
+        this.lDongRegnCd = tour.getLDongRegnCd();
+        this.lDongSignguCd = tour.getLDongSignguCd();
+        this.lclsSystm1 = tour.getLclsSystm1();
+        this.lclsSystm2 = tour.getLclsSystm2();
+        this.lclsSystm3 = tour.getLclsSystm3();
+        this.syncedAt = LocalDateTime.now();
+    }
+
+    public CartResponse.TourSearchResponse toSearchResponse() {
+        return CartResponse.TourSearchResponse.builder()
+                .contentId(contentId)
+                .contentTypeId(contentTypeId)
+                .title(title)
+                .address(address)
+                .address2(address2)
+                .zipcode(zipcode)
+                .areaCode(areaCode)
+                .cat1(cat1)
+                .cat2(cat2)
+                .cat3(cat3)
+                .createdTime(createdTime)
+                .firstImage(firstImage)
+                .firstImage2(firstImage2)
+                .cpyrhtDivCd(cpyrhtDivCd)
+                .mapX(mapX)
+                .mapY(mapY)
+                .mlevel(mlevel)
+                .modifiedTime(modifiedTime)
+                .sigunguCode(sigunguCode)
+                .tel(tel)
+                .overview("")
+                .lDongRegnCd(lDongRegnCd)
+                .lDongSignguCd(lDongSignguCd)
+                .lclsSystm1(lclsSystm1)
+                .lclsSystm2(lclsSystm2)
+                .lclsSystm3(lclsSystm3)
+                .build();
+    }
+}
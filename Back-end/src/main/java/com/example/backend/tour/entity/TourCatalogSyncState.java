@@ -0,0 +1,38 @@
+package com.example.backend.tour.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관광정보 로컬 사본 동기화 상태 (동기화 종류당 한 행)
+ * 전체 동기화가 모든 지역을 끝까지 읽은 경우에만 기록하며, 로컬 사본을 검색에 쓸지는 이 기록으로 판단합니다.
+ * 여러 인스턴스가 같은 주기로 동기화하지 않도록, 최근 완료 시각으로 예약 실행을 건너뛰는 데에도 사용합니다.
+ */
+@Entity
+@Table(name = "tour_catalog_sync_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TourCatalogSyncState {
+
+    public static final String FULL_SYNC = "FULL";
+    public static final String INCREMENTAL_SYNC = "INCREMENTAL";
+
+    @Id
+    @Column(name = "sync_type", length = 20)
+    private String syncType;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    public void complete(int itemCount) {
+        this.completedAt = LocalDateTime.now();
+        this.itemCount = itemCount;
+    }
+}
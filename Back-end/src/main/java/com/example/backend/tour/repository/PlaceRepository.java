@@ -0,0 +1,75 @@
+package com.example.backend.tour.repository;
+
+import com.example.backend.tour.dto.response.PlaceSummary;
+import com.example.backend.tour.entity.Place;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlaceRepository extends JpaRepository<Place, String> {
+
+    /**
+     * 장소 요약 정보를 필요한 컬럼만 한 번의 쿼리로 조회
+     * 카테고리는 장바구니 행(Tour)에 있고 같은 장소가 여러 장바구니에 담길 수 있으므로,
+     * 조인 대신 상관 서브쿼리(MIN)로 하나만 골라 contentId 당 정확히 한 행을 반환합니다.
+     */
+    @Query("""
+            SELECT new com.example.backend.tour.dto.response.PlaceSummary(
+                p.contentId, p.title, p.latitude, p.longitude, p.tema,
+                p.lDongRegnCd, p.lDongSignguCd, p.address,
+                (SELECT MIN(t.category) FROM Tour t WHERE t.contentId = p.contentId AND t.category IS NOT NULL))
+            FROM Place p
+            WHERE p.contentId IN :contentIds
+            """)
+    List<PlaceSummary> findSummariesByContentIdIn(@Param("contentIds") Collection<String> contentIds);
+
+    /**
+     * 다시 보강할 차례가 된 placeholder (Place.placeholder)
+     * 포기한 행(next_enrich_at 없음, 시도 횟수 있음)은 제외하고, 예정 시각이 이른 순으로 조회합니다.
+     * 컬럼 추가 전에 만든 placeholder는 두 값이 모두 비어 있으므로 생성 시각 기준으로 포함합니다.
+     */
+    @Query("""
+            SELECT p.contentId FROM Place p
+            WHERE p.title IS NULL
+              AND (p.nextEnrichAt <= :now OR (p.nextEnrichAt IS NULL AND p.enrichAttempts IS NULL))
+            ORDER BY COALESCE(p.nextEnrichAt, p.createdAt)
+            """)
+    List<String> findPlaceholderContentIdsDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 장소 등록 (같은 contentId가 이미 있으면 PK 충돌로 무시되어 0 반환, 기존 행은 바꾸지 않음)
+     * 존재 확인 SELECT 없이 호출한 트랜잭션 안에서 한 문장으로 처리하므로 동시에 같은 장소를 등록해도 충돌하지 않습니다.
+     * Place.from(contentId, detail) / Place.placeholder 가 채우는 컬럼만 저장합니다. (first_image는 image와 같은 값)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT IGNORE INTO place (content_id, content_type_id, title, address, longitude, latitude,
+                                      image, first_image, tel, overview, tema, l_dong_regn_cd, l_dong_signgu_cd,
+                                      created_at, enrich_attempts, next_enrich_at)
+            VALUES (:contentId, :contentTypeId, :title, :address, :longitude, :latitude,
+                    :image, :image, :tel, :overview, :tema, :lDongRegnCd, :lDongSignguCd,
+                    :createdAt, :enrichAttempts, :nextEnrichAt)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("contentId") String contentId, @Param("contentTypeId") String contentTypeId,
+                     @Param("title") String title, @Param("address") String address,
+                     @Param("longitude") Double longitude, @Param("latitude") Double latitude,
+                     @Param("image") String image, @Param("tel") String tel, @Param("overview") String overview,
+                     @Param("tema") String tema, @Param("lDongRegnCd") String lDongRegnCd,
+                     @Param("lDongSignguCd") String lDongSignguCd, @Param("createdAt") LocalDateTime createdAt,
+                     @Param("enrichAttempts") Integer enrichAttempts, @Param("nextEnrichAt") LocalDateTime nextEnrichAt);
+
+    default boolean insertIfAbsent(Place place) {
+        return insertIgnore(place.getContentId(), place.getContentTypeId(), place.getTitle(), place.getAddress(),
+                place.getLongitude(), place.getLatitude(), place.getImage(), place.getTel(), place.getOverview(),
+                place.getTema(), place.getLDongRegnCd(), place.getLDongSignguCd(), place.getCreatedAt(),
+                place.getEnrichAttempts(), place.getNextEnrichAt()) > 0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.tour.repository;
+
+import com.example.backend.tour.entity.TourCatalog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TourCatalogRepository extends JpaRepository<TourCatalog, String> {
+
+    /**
+     * 목록 API와 같은 조건으로 로컬 사본 검색 (빈 문자열 조건은 무시)
+     */
+    @Query("""
+            SELECT c FROM TourCatalog c
+            WHERE (:keyword = '' OR c.title LIKE CONCAT('%', :keyword, '%'))
+              AND (:areaCode = '' OR c.areaCode = :areaCode)
+              AND (:sigunguCode = '' OR c.sigunguCode = :sigunguCode)
+              AND (:contentTypeId = '' OR c.contentTypeId = :contentTypeId)
+              AND (:cat1 = '' OR c.cat1 = :cat1)
+              AND (:cat2 = '' OR c.cat2 = :cat2)
+              AND (:cat3 = '' OR c.cat3 = :cat3)
+              AND (:lDongRegnCd = '' OR c.lDongRegnCd = :lDongRegnCd)
+              AND (:lDongSignguCd = '' OR c.lDongSignguCd = :lDongSignguCd)
+            """)
+    Page<TourCatalog> search(@Param("keyword") String keyword,
+                             @Param("areaCode") String areaCode,
+                             @Param("sigunguCode") String sigunguCode,
+                             @Param("contentTypeId") String contentTypeId,
+                             @Param("cat1") String cat1,
+                             @Param("cat2") String cat2,
+                             @Param("cat3") String cat3,
+                             @Param("lDongRegnCd") String lDongRegnCd,
+                             @Param("lDongSignguCd") String lDongSignguCd,
+                             Pageable pageable);
+
+    /**
+     * 증분 동기화 기준점 (가장 최근 수정 시각, yyyyMMddHHmmss)
+     */
+    @Query("SELECT MAX(c.modifiedTime) FROM TourCatalog c")
+    String findMaxModifiedTime();
+
+    /**
+     * 지정 시각 이후 동기화되지 않은 행 삭제 (전체 동기화에서 받지 못한 = 원본에서 삭제된 항목)
+     */
+    @Modifying
+    @Query("DELETE FROM TourCatalog c WHERE c.syncedAt IS NULL OR c.syncedAt < :syncedAt")
+    int deleteNotSyncedSince(@Param("syncedAt") LocalDateTime syncedAt);
+}
@@ -0,0 +1,9 @@
+package com.example.backend.tour.repository;
+
+import com.example.backend.tour.entity.TourCatalogSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TourCatalogSyncStateRepository extends JpaRepository<TourCatalogSyncState, String> {
+}
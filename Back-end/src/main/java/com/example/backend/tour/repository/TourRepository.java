@@ -1,10 +1,15 @@
 package com.example.backend.tour.repository;
 
 import com.example.backend.cart.entity.Cart;
+import com.example.backend.common.jpa.UuidBytes;
 import com.example.backend.tour.entity.Tour;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,19 +17,48 @@ import java.util.UUID;
 @Repository
 public interface TourRepository extends JpaRepository<Tour, UUID> {
 
-    List<Tour> findByCartId(Cart cart);
+    @Query("SELECT t FROM Tour t LEFT JOIN FETCH t.place WHERE t.cartId = :cart")
+    List<Tour> findByCartId(@Param("cart") Cart cart);
 
-    boolean existsByCartIdAndAddress(Cart cart, String address);
+    // 여러 장바구니의 투어를 IN 쿼리 한 번으로 조회
+    @Query("SELECT t FROM Tour t LEFT JOIN FETCH t.place WHERE t.cartId.cartId IN :cartIds")
+    List<Tour> findAllByCartIds(@Param("cartIds") Collection<UUID> cartIds);
 
     boolean existsByCartIdAndContentId(Cart cart, String contentId);
 
-    void deleteByCartIdAndTourId(Cart cart, UUID tourId);
+    // 일괄 추가 시 이미 담긴 contentId를 IN 쿼리 한 번으로 확인
+    @Query("SELECT t.contentId FROM Tour t WHERE t.cartId = :cart AND t.contentId IN :contentIds")
+    List<String> findContentIdsByCartIdAndContentIdIn(@Param("cart") Cart cart,
+                                                       @Param("contentIds") Collection<String> contentIds);
+
+    /**
+     * 장바구니 연결 행 추가 (같은 장바구니에 같은 contentId가 있으면 uk_cart_content로 무시되어 0 반환)
+     * 존재 확인 SELECT 없이 한 문장으로 처리하므로 동시 요청에도 한 건만 들어갑니다.
+     * cart는 호출 전에 조회/저장된 장바구니만 전달해야 합니다. (IGNORE는 FK 오류도 경고로 바꾸므로)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO tour (tour_id, content_id, cart_id) VALUES (:tourId, :contentId, :cartId)",
+            nativeQuery = true)
+    int insertIgnore(@Param("tourId") byte[] tourId, @Param("contentId") String contentId,
+                     @Param("cartId") byte[] cartId);
+
+    default boolean insertIfAbsent(UUID tourId, String contentId, Cart cart) {
+        return insertIgnore(UuidBytes.toBytes(tourId), contentId, UuidBytes.toBytes(cart.getCartId())) > 0;
+    }
+
+    Optional<Tour> findByCartIdAndTourId(Cart cart, UUID tourId);
+
+    // 장소 정보가 바뀌었을 때 해당 장소를 담은 장바구니/사용자 확인용
+    @Query("SELECT t FROM Tour t JOIN FETCH t.cartId WHERE t.contentId = :contentId")
+    List<Tour> findAllWithCartByContentId(@Param("contentId") String contentId);
+
+    // 변경 내역(추가/변경된 투어) 조회용
+    @Query("SELECT t FROM Tour t LEFT JOIN FETCH t.place WHERE t.tourId IN :tourIds")
+    List<Tour> findAllWithPlaceByTourIdIn(@Param("tourIds") Collection<UUID> tourIds);
 
     void deleteAllByCartId(Cart cart);
 
     int countByCartId(Cart cart);
 
-    List<Tour> findByContentIdIn(List<String> contentIds);
-
     Optional<Tour> findByContentId(String contentId);
 }
\ No newline at end of file
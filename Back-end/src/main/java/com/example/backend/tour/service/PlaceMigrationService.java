@@ -0,0 +1,99 @@
+package com.example.backend.tour.service;
+
+import com.example.backend.common.migration.DataMigration;
+import com.example.backend.common.migration.DataMigrationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * tour 행마다 복사되어 있던 장소 정보를 place 테이블로 이관
+ * - 요청을 받기 전(@PostConstruct)에 실행하여, 이관 전의 제목 없는 장바구니 응답이 만들어지거나 캐시되지 않도록 함
+ * - place.migration.enabled (기본 true): 기동 시 tour의 이전 컬럼이 남아 있으면 place로 복사 (이미 있는 contentId는 건너뜀)
+ *   한 번 끝나면 data_migration에 기록하고, 다음 기동부터는 tour 전체를 다시 읽지 않음
+ * - place.migration.drop-legacy-columns (기본 false): 복사 후 tour의 이전 컬럼 삭제 (되돌릴 수 없으므로 확인 후 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceMigrationService {
+
+    private static final List<String> LEGACY_COLUMNS = List.of(
+            "content_type_id", "title", "address", "address2", "zipcode", "area_code", "sigungu_code",
+            "cat1", "cat2", "cat3", "created_time", "modified_time", "first_image", "first_image2",
+            "cpyrht_div_cd", "mapx", "mapy", "mlevel", "tel", "overview", "l_dong_regn_cd", "l_dong_signgu_cd",
+            "lcls_systm1", "lcls_systm2", "lcls_systm3", "longitude", "latitude", "image", "tema");
+
+    private static final String MIGRATION_NAME = "PLACE_FROM_TOUR";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 완료 기록 조회 (JPA 초기화(ddl-auto)가 끝난 뒤 실행되도록 하는 역할도 함)
+    private final DataMigrationRepository dataMigrationRepository;
+
+    @Value("${place.migration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${place.migration.drop-legacy-columns:false}")
+    private boolean dropLegacyColumns;
+
+    @PostConstruct
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            boolean completed = dataMigrationRepository.existsById(MIGRATION_NAME);
+            if (completed && !dropLegacyColumns) {
+                return;
+            }
+
+            List<String> legacyColumns = findLegacyColumns();
+            if (legacyColumns.isEmpty()) {
+                if (!completed) {
+                    // 이전 컬럼이 없는(새로 만든) DB는 이관할 데이터가 없음
+                    dataMigrationRepository.save(DataMigration.completed(MIGRATION_NAME, 0));
+                }
+                return;
+            }
+            if (legacyColumns.size() < LEGACY_COLUMNS.size()) {
+                log.warn("tour 테이블의 이전 컬럼 일부가 없어 장소 이관을 건너뜁니다. 남은 컬럼: {}", legacyColumns);
+                return;
+            }
+
+            if (!completed) {
+                String columns = String.join(", ", LEGACY_COLUMNS);
+                // 같은 contentId가 여러 장바구니에 있으면 먼저 읽힌 행 기준으로 한 번만 등록
+                int inserted = jdbcTemplate.update(
+                        "INSERT IGNORE INTO place (content_id, " + columns + ", created_at) " +
+                        "SELECT content_id, " + columns + ", NOW() FROM tour WHERE content_id IS NOT NULL");
+                dataMigrationRepository.save(DataMigration.completed(MIGRATION_NAME, inserted));
+                log.info("장소 정보 이관 완료 - place 신규 {}건", inserted);
+            }
+
+            if (dropLegacyColumns) {
+                jdbcTemplate.execute("ALTER TABLE tour " + legacyColumns.stream()
+                        .map(column -> "DROP COLUMN " + column)
+                        .collect(Collectors.joining(", ")));
+                log.info("tour 테이블 이전 컬럼 삭제 완료 - {}개", legacyColumns.size());
+            }
+        } catch (Exception e) {
+            log.error("장소 정보 이관 실패", e);
+        }
+    }
+
+    private List<String> findLegacyColumns() {
+        return jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = 'tour'", String.class).stream()
+                .map(String::toLowerCase)
+                .filter(LEGACY_COLUMNS::contains)
+                .toList();
+    }
+}
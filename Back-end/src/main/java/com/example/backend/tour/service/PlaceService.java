@@ -0,0 +1,37 @@
+package com.example.backend.tour.service;
+
+import com.example.backend.tour.entity.Place;
+import com.example.backend.tour.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니에 담긴 장소의 공유 정보(Place) 관리
+ */
+@Service
+@RequiredArgsConstructor
+public class PlaceService {
+
+    private final PlaceRepository placeRepository;
+
+    /**
+     * 아직 없는 장소만 등록합니다. (이미 있는 장소는 변경하지 않음)
+     * 호출한 트랜잭션 안에서 INSERT IGNORE로 등록하므로, 같은 장소를 여러 사용자가 동시에 담더라도
+     * 커넥션을 하나만 쓰고 PK 충돌로 실패하지 않습니다.
+     */
+    @Transactional
+    public void registerIfAbsent(Collection<Place> places) {
+        Map<String, Place> candidates = places.stream()
+                .filter(place -> place.getContentId() != null && !place.getContentId().isBlank())
+                .collect(Collectors.toMap(Place::getContentId, Function.identity(),
+                        (existing, replacement) -> existing, LinkedHashMap::new));
+        candidates.values().forEach(placeRepository::insertIfAbsent);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.backend.tour.service;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.tour.entity.TourCatalog;
+import com.example.backend.tour.entity.TourCatalogSyncState;
+import com.example.backend.tour.repository.TourCatalogRepository;
+import com.example.backend.tour.repository.TourCatalogSyncStateRepository;
+import com.example.backend.tour.webclient.TourSearchKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관광정보 로컬 사본(tour_catalog) 조회/저장
+ * 전체 동기화가 한 번이라도 끝난 뒤에만 검색에 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TourCatalogService {
+
+    private final TourCatalogRepository tourCatalogRepository;
+    private final TourCatalogSyncStateRepository tourCatalogSyncStateRepository;
+
+    @Value("${tour.catalog.replica-enabled:true}")
+    private boolean replicaEnabled;
+
+    private volatile boolean ready = false;
+
+    private final LongAdder replicaHits = new LongAdder();
+    private final LongAdder replicaMisses = new LongAdder();
+
+    /**
+     * 로컬 사본에서 목록 조회 (API와 같은 제목순 정렬)
+     * 결과가 없으면 Optional.empty()를 반환하여 호출 측이 외부 API로 넘어가도록 합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Page<CartResponse.TourSearchResponse>> search(TourSearchKey key, Pageable pageable) {
+        if (!replicaEnabled || !ready) {
+            return Optional.empty();
+        }
+
+        try {
+            Page<TourCatalog> page = tourCatalogRepository.search(
+                    key.keyword(), key.areaCode(), key.sigunguCode(), key.contentTypeId(),
+                    key.cat1(), key.cat2(), key.cat3(), key.lDongRegnCd(), key.lDongSignguCd(),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("title")));
+
+            if (!page.hasContent()) {
+                replicaMisses.increment();
+                return Optional.empty();
+            }
+
+            replicaHits.increment();
+            List<CartResponse.TourSearchResponse> content = page.getContent().stream()
+                    .map(TourCatalog::toSearchResponse)
+                    .collect(Collectors.toList());
+            return Optional.of(new PageImpl<>(content, pageable, page.getTotalElements()));
+        } catch (Exception e) {
+            log.warn("로컬 카탈로그 조회 실패, 외부 API로 대체: {}", e.getMessage());
+            replicaMisses.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 목록 API 응답을 contentId 기준으로 추가/갱신
+     * @return 저장한 건수
+     */
+    @Transactional
+    public int upsertAll(List<CartResponse.TourSearchResponse> tours) {
+        Map<String, CartResponse.TourSearchResponse> byContentId = tours.stream()
+                .filter(tour -> tour.getContentId() != null && !tour.getContentId().isEmpty())
+                .collect(Collectors.toMap(CartResponse.TourSearchResponse::getContentId, Function.identity(),
+                        (first, second) -> second, LinkedHashMap::new));
+        if (byContentId.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, TourCatalog> existing = tourCatalogRepository.findAllById(byContentId.keySet()).stream()
+                .collect(Collectors.toMap(TourCatalog::getContentId, Function.identity()));
+
+        List<TourCatalog> toSave = byContentId.values().stream()
+                .map(tour -> {
+                    TourCatalog catalog = existing.get(tour.getContentId());
+                    if (catalog == null) {
+                        return TourCatalog.from(tour);
+                    }
+                    catalog.updateFrom(tour);
+                    return catalog;
+                })
+                .collect(Collectors.toList());
+
+        tourCatalogRepository.saveAll(toSave);
+        return toSave.size();
+    }
+
+    @Transactional(readOnly = true)
+    public String findSyncWatermark() {
+        return tourCatalogRepository.findMaxModifiedTime();
+    }
+
+    /**
+     * 전체 동기화가 한 번이라도 모든 지역을 끝까지 마쳤는지 (행 수와 관계없이 완료 기록으로 판단)
+     */
+    @Transactional(readOnly = true)
+    public boolean isFullSyncCompleted() {
+        return tourCatalogSyncStateRepository.existsById(TourCatalogSyncState.FULL_SYNC);
+    }
+
+    /**
+     * 해당 동기화가 지정 시각 이후에 완료된 적이 있는지 (다른 인스턴스가 이미 실행했으면 건너뛰기 위함)
+     */
+    @Transactional(readOnly = true)
+    public boolean isSyncCompletedSince(String syncType, LocalDateTime since) {
+        return tourCatalogSyncStateRepository.findById(syncType)
+                .map(state -> state.getCompletedAt().isAfter(since))
+                .orElse(false);
+    }
+
+    @Transactional
+    public void markSyncCompleted(String syncType, int itemCount) {
+        tourCatalogSyncStateRepository.findById(syncType)
+                .ifPresentOrElse(state -> state.complete(itemCount),
+                        () -> tourCatalogSyncStateRepository.save(TourCatalogSyncState.builder()
+                                .syncType(syncType)
+                                .completedAt(LocalDateTime.now())
+                                .itemCount(itemCount)
+                                .build()));
+    }
+
+    /**
+     * 전체 동기화가 끝난 뒤 이번 동기화에서 받지 못한(원본에서 삭제된) 항목 삭제
+     * 전체 동기화는 받은 모든 항목의 synced_at을 시작 시각 이후로 갱신하므로, 그보다 이전 행은 원본에 없는 항목입니다.
+     * @return 삭제한 건수
+     */
+    @Transactional
+    public int deleteNotSyncedSince(LocalDateTime syncStartedAt) {
+        return tourCatalogRepository.deleteNotSyncedSince(syncStartedAt);
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", replicaEnabled);
+        stats.put("ready", ready);
+        stats.put("hits", replicaHits.sum());
+        stats.put("misses", replicaMisses.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.backend.tour.service;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.tour.entity.TourCatalogSyncState;
+import com.example.backend.tour.webclient.TourApiClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * KorService2 관광정보 → tour_catalog 동기화
+ * - 전체 동기화: 모든 지역의 areaBasedList2를 끝까지 읽어 저장 (최초 기동 시, 매주)
+ *   한 페이지라도 조회에 실패하면 중단하고, 모든 지역을 마친 경우에만 완료를 기록하고 검색에 사용
+ *   끝까지 마치면 이번 동기화에서 받지 못한(원본에서 삭제된) 항목을 삭제
+ * - 증분 동기화: 수정일순(arrange=C)으로 읽으며 저장된 최신 modifiedtime 이후 항목만 반영
+ * - 여러 인스턴스 중 한 곳에서만 실행: Redis 잠금(setIfAbsent)으로 동시 실행을 막고,
+ *   다른 인스턴스가 최근에 이미 마친 예약 동기화는 완료 기록(TourCatalogSyncState)을 보고 건너뜀
+ *   (다른 인스턴스가 만든 로컬 사본은 완료 기록을 주기적으로 확인해 사용 시작)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TourCatalogSyncService {
+
+    // KorService2 areaCode (서울~제주)
+    private static final List<String> AREA_CODES = List.of(
+            "1", "2", "3", "4", "5", "6", "7", "8",
+            "31", "32", "33", "34", "35", "36", "37", "38", "39");
+
+    private static final String SYNC_LOCK_KEY = "tour:catalog:sync-lock";
+
+    private final TourApiClient tourApiClient;
+    private final TourCatalogService tourCatalogService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${tour.catalog.sync-enabled:true}")
+    private boolean syncEnabled;
+
+    @Value("${tour.catalog.sync-page-size:1000}")
+    private int pageSize;
+
+    @Value("${tour.catalog.incremental-max-pages:20}")
+    private int incrementalMaxPages;
+
+    @Value("${tour.catalog.incremental-sync-delay-ms:3600000}")
+    private long incrementalSyncDelayMs;
+
+    // 예약 전체 동기화는 이 시간 안에 다른 인스턴스가 마쳤으면 건너뜀
+    @Value("${tour.catalog.full-sync-min-interval-hours:24}")
+    private long fullSyncMinIntervalHours;
+
+    // 잠금을 잡은 인스턴스가 비정상 종료해도 풀리도록 (전체 동기화 소요 시간보다 길게)
+    @Value("${tour.catalog.sync-lock-ttl-seconds:7200}")
+    private long syncLockTtlSeconds;
+
+    // 이 인스턴스가 잡은 잠금인지 구분하는 값
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    // 전체/증분 동기화가 겹치지 않도록 관리 (Redis 장애 시에도 인스턴스 안에서는 겹치지 않도록)
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 기동 시 전체 동기화 완료 기록이 있으면 바로 검색에 사용, 없으면 전체 동기화
+     * (이전 동기화가 중간에 실패해 일부 지역만 저장된 사본은 사용하지 않음)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeCatalog() {
+        try {
+            if (tourCatalogService.isFullSyncCompleted()) {
+                tourCatalogService.markReady();
+                log.info("관광정보 로컬 사본 사용 시작 (기존 데이터)");
+                return;
+            }
+        } catch (Exception e) {
+            log.error("관광정보 로컬 사본 확인 실패", e);
+            return;
+        }
+
+        if (syncEnabled) {
+            fullSync();
+        }
+    }
+
+    @Scheduled(cron = "${tour.catalog.full-sync-cron:0 0 4 * * SUN}")
+    public void scheduledFullSync() {
+        if (!syncEnabled) {
+            return;
+        }
+        if (tourCatalogService.isSyncCompletedSince(TourCatalogSyncState.FULL_SYNC,
+                LocalDateTime.now().minusHours(fullSyncMinIntervalHours))) {
+            log.info("다른 인스턴스가 최근 전체 동기화를 마쳐 건너뜁니다.");
+            return;
+        }
+        fullSync();
+    }
+
+    @Scheduled(fixedDelayString = "${tour.catalog.incremental-sync-delay-ms:3600000}",
+            initialDelayString = "${tour.catalog.incremental-sync-delay-ms:3600000}")
+    public void scheduledIncrementalSync() {
+        if (!syncEnabled) {
+            return;
+        }
+        if (tourCatalogService.isSyncCompletedSince(TourCatalogSyncState.INCREMENTAL_SYNC,
+                LocalDateTime.now().minus(incrementalSyncDelayMs / 2, ChronoUnit.MILLIS))) {
+            log.debug("다른 인스턴스가 최근 증분 동기화를 마쳐 건너뜁니다.");
+            return;
+        }
+        incrementalSync();
+    }
+
+    /**
+     * 다른 인스턴스가 전체 동기화를 마쳤으면 이 인스턴스도 로컬 사본 사용 시작
+     */
+    @Scheduled(fixedDelayString = "${tour.catalog.ready-check-delay-ms:300000}",
+            initialDelayString = "${tour.catalog.ready-check-delay-ms:300000}")
+    public void refreshReadiness() {
+        try {
+            if (!tourCatalogService.isReady() && tourCatalogService.isFullSyncCompleted()) {
+                tourCatalogService.markReady();
+                log.info("관광정보 로컬 사본 사용 시작 (다른 인스턴스의 전체 동기화 완료)");
+            }
+        } catch (Exception e) {
+            log.warn("관광정보 로컬 사본 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 동기화
+     * @return 저장한 건수 (다른 동기화가 진행 중이면 -1)
+     */
+    public int fullSync() {
+        if (!acquireLock()) {
+            log.info("관광정보 동기화가 이미 진행 중입니다. 전체 동기화를 건너뜁니다.");
+            return -1;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        // 이번 동기화에서 받은 항목은 synced_at이 이 시각 이후가 됨 (DB 시각 정밀도와 관계없도록 초 단위로 내림)
+        LocalDateTime syncStartedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        int total = 0;
+        try {
+            log.info("관광정보 전체 동기화 시작");
+            for (String areaCode : AREA_CODES) {
+                int saved = syncArea(areaCode);
+                log.info("  areaCode {} 동기화: {}건", areaCode, saved);
+                total += saved;
+            }
+
+            if (total > 0) {
+                int deleted = tourCatalogService.deleteNotSyncedSince(syncStartedAt);
+                tourCatalogService.markSyncCompleted(TourCatalogSyncState.FULL_SYNC, total);
+                tourCatalogService.markReady();
+                log.info("  원본에서 삭제된 항목 정리: {}건", deleted);
+            }
+            log.info("관광정보 전체 동기화 완료 - {}건, {}ms", total, System.currentTimeMillis() - startedAt);
+            return total;
+        } catch (Exception e) {
+            // 완료를 기록하지 않으므로 처음 동기화라면 로컬 사본을 검색에 쓰지 않음
+            log.error("관광정보 전체 동기화 실패 ({}건 저장 후 중단)", total, e);
+            return total;
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * 증분 동기화
+     * @return 저장한 건수 (기준점이 없거나 다른 동기화가 진행 중이면 -1)
+     */
+    public int incrementalSync() {
+        String watermark = tourCatalogService.findSyncWatermark();
+        if (watermark == null || watermark.isEmpty()) {
+            log.info("관광정보 로컬 사본이 비어 있어 증분 동기화를 건너뜁니다.");
+            return -1;
+        }
+        if (!acquireLock()) {
+            log.info("관광정보 동기화가 이미 진행 중입니다. 증분 동기화를 건너뜁니다.");
+            return -1;
+        }
+
+        int total = 0;
+        try {
+            for (int pageNo = 0; pageNo < incrementalMaxPages; pageNo++) {
+                Page<CartResponse.TourSearchResponse> page =
+                        tourApiClient.fetchAreaBasedListForSync(null, "C", PageRequest.of(pageNo, pageSize));
+                if (!page.hasContent()) {
+                    break;
+                }
+
+                // 수정일 내림차순이므로 기준점 이하 항목이 나오면 그 뒤는 모두 반영된 데이터
+                List<CartResponse.TourSearchResponse> changed = page.getContent().stream()
+                        .filter(tour -> tour.getModifiedTime() != null && tour.getModifiedTime().compareTo(watermark) > 0)
+                        .collect(Collectors.toList());
+                total += tourCatalogService.upsertAll(changed);
+
+                if (changed.size() < page.getNumberOfElements() || !page.hasNext()) {
+                    break;
+                }
+            }
+            tourCatalogService.markSyncCompleted(TourCatalogSyncState.INCREMENTAL_SYNC, total);
+            log.info("관광정보 증분 동기화 완료 - 기준점: {}, {}건", watermark, total);
+            return total;
+        } catch (Exception e) {
+            log.error("관광정보 증분 동기화 실패", e);
+            return total;
+        } finally {
+            releaseLock();
+        }
+    }
+
+    private int syncArea(String areaCode) {
+        int saved = 0;
+        for (int pageNo = 0; ; pageNo++) {
+            Page<CartResponse.TourSearchResponse> page =
+                    tourApiClient.fetchAreaBasedListForSync(areaCode, "A", PageRequest.of(pageNo, pageSize));
+            if (!page.hasContent()) {
+                return saved;
+            }
+            saved += tourCatalogService.upsertAll(page.getContent());
+            if (!page.hasNext()) {
+                return saved;
+            }
+        }
+    }
+
+    /**
+     * 인스턴스 안(AtomicBoolean)과 인스턴스 간(Redis setIfAbsent) 동기화 잠금
+     * Redis 장애 시에는 인스턴스 안의 잠금만으로 실행합니다.
+     */
+    private boolean acquireLock() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(SYNC_LOCK_KEY, lockOwner, Duration.ofSeconds(syncLockTtlSeconds));
+            if (!Boolean.TRUE.equals(acquired)) {
+                running.set(false);
+                return false;
+            }
+        } catch (Exception e) {
+            log.warn("관광정보 동기화 잠금 확인 실패, 이 인스턴스에서만 잠그고 실행 - 원인: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    private void releaseLock() {
+        try {
+            // 잠금이 만료되어 다른 인스턴스가 잡은 경우에는 지우지 않음
+            if (lockOwner.equals(redisTemplate.opsForValue().get(SYNC_LOCK_KEY))) {
+                redisTemplate.delete(SYNC_LOCK_KEY);
+            }
+        } catch (Exception e) {
+            log.warn("관광정보 동기화 잠금 해제 실패 - 원인: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+}
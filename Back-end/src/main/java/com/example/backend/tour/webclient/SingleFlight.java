@@ -0,0 +1,54 @@
+package com.example.backend.tour.webclient;
+
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 진행 중인 Mono로 합치는 single-flight
+ * 먼저 도착한 요청만 실제로 구독(외부 호출)하고, 완료 전까지 들어온 요청은 그 결과를 함께 받습니다.
+ * 완료(성공/실패) 즉시 키가 제거되므로 결과를 캐시하지는 않습니다.
+ */
+public class SingleFlight<T> {
+
+    private final Map<String, Mono<T>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public Mono<T> execute(String key, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            AtomicReference<Mono<T>> created = new AtomicReference<>();
+            Mono<T> shared = inFlight.computeIfAbsent(key, k -> {
+                Mono<T> mono = call.get()
+                        .doFinally(signal -> inFlight.remove(k, created.get()))
+                        .cache();
+                created.set(mono);
+                return mono;
+            });
+
+            if (shared == created.get()) {
+                executed.increment();
+            } else {
+                coalesced.increment();
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * 실제 실행 횟수와 합쳐진(coalesced) 요청 수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("executed", executed.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+}
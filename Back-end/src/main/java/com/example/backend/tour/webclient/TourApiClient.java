@@ -1,13 +1,19 @@
 package com.example.backend.tour.webclient;
 
 import com.example.backend.cart.dto.response.CartResponse;
-import com.example.backend.tour.entity.Tour;
-import com.example.backend.tour.entity.TourCategory;
-import com.example.backend.tour.repository.TourRepository;
+import com.example.backend.tour.dto.response.PlaceSummary;
+import com.example.backend.tour.repository.PlaceRepository;
+import com.example.backend.tour.service.TourCatalogService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -15,8 +21,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,9 +34,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TourApiClient {
 
+    @Qualifier("tourApiWebClient")
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
-    private final TourRepository tourRepository;
+    private final PlaceRepository placeRepository;
+    private final TourSearchCache tourSearchCache;
+    private final TourCatalogService tourCatalogService;
+    private final TourApiResilience tourApiResilience;
+    private final TourDetailPrefetcher tourDetailPrefetcher;
 
     @Value("${tour.api.key}")
     private String apiKey;
@@ -34,8 +49,23 @@ public class TourApiClient {
     @Value("${tour.api.base-url:http://apis.data.go.kr/B551011/KorService2}")
     private String baseUrl;
     
-    // 검색 결과를 캐시하여 상세 조회에 활용
-    private final Map<String, JsonNode> tourDataCache = new HashMap<>();
+    // 상세 조회 시간 예산 (개별 API 호출 / 상세 조회 전체)
+    private static final Duration DETAIL_CALL_TIMEOUT = Duration.ofSeconds(4);
+    private static final Duration DETAIL_TOTAL_TIMEOUT = Duration.ofSeconds(9);
+
+    // 검색 결과를 contentId 기준으로 캐시하여 상세 조회의 1차 저장소로 활용 (크기/TTL 제한, 동시 접근 안전)
+    private static final int SEARCH_RESULT_CACHE_MAX_SIZE = 5_000;
+    private static final Duration SEARCH_RESULT_CACHE_TTL = Duration.ofMinutes(30);
+
+    private final Cache<String, CartResponse.TourSearchResponse> searchResultCache = Caffeine.newBuilder()
+            .maximumSize(SEARCH_RESULT_CACHE_MAX_SIZE)
+            .expireAfterWrite(SEARCH_RESULT_CACHE_TTL)
+            .recordStats()
+            .build();
+
+    // 동일한 요청이 동시에 들어오면 외부 API는 한 번만 호출 (URI 단위 / 상세 조회는 contentId 단위)
+    private final SingleFlight<byte[]> upstreamCalls = new SingleFlight<>();
+    private final SingleFlight<CartResponse.TourDetailResponse> detailCalls = new SingleFlight<>();
 
     // 지역코드 매핑 (KorService2용)
     private static final Map<String, String> AREA_CODES = new HashMap<>() {{
@@ -58,31 +88,150 @@ public class TourApiClient {
         put("제주", "39");
     }};
 
+    // ========== 목록 조회 (TourSearchCache를 거쳐 외부 API 호출, 논블로킹) ==========
+
     /**
-     * 키워드를 이용한 관광지 검색
+     * 키워드를 이용한 관광지 검색 (논블로킹)
      */
-    public Page<CartResponse.TourSearchResponse> searchTours(String keyword, String region, String category, Pageable pageable) {
-        try {
-            log.info("=== searchTours 시작 ===");
-            log.info("keyword: {}, region: {}, category: {}", keyword, region, category);
+    public Mono<Page<CartResponse.TourSearchResponse>> searchToursAsync(String keyword, String region, String category, Pageable pageable) {
+        TourSearchKey key = searchKey("searchKeyword2", pageable)
+                .keyword(keyword)
+                .areaCode(region != null ? AREA_CODES.get(region) : null)
+                .contentTypeId(category != null && !category.isEmpty() ? getContentTypeId(category) : null)
+                .build();
+        return cachedSearch(key, pageable, () -> fetchTours(keyword, region, category, pageable));
+    }
 
-            String uri = buildSearchUri(keyword, region, category, pageable);
-            log.info("요청 URL: {}", uri);
+    /**
+     * 지역 기반 관광지 검색 (논블로킹)
+     */
+    public Mono<Page<CartResponse.TourSearchResponse>> searchToursByAreaAsync(String areaCode, String sigunguCode, Pageable pageable) {
+        TourSearchKey key = searchKey("areaBasedList2", pageable)
+                .areaCode(areaCode)
+                .sigunguCode(sigunguCode)
+                .build();
+        return cachedSearch(key, pageable, () -> fetchToursByArea(areaCode, sigunguCode, pageable));
+    }
 
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+    /**
+     * 지역 코드로 장소 검색 (논블로킹)
+     */
+    public Mono<Page<CartResponse.TourSearchResponse>> searchPlacesByRegionAsync(String regionCode, Pageable pageable) {
+        TourSearchKey key = searchKey("areaBasedList2", pageable)
+                .areaCode(regionCode)
+                .build();
+        return cachedSearch(key, pageable, () -> fetchPlacesByRegion(regionCode, pageable));
+    }
 
-            log.info("API 응답 수신 완료");
-            return parseTourResponse(response, pageable);
+    /**
+     * 지역 코드와 테마로 장소 검색 (논블로킹)
+     */
+    public Mono<Page<CartResponse.TourSearchResponse>> searchPlacesByRegionAndThemeAsync(String regionCode, String theme, Pageable pageable) {
+        String[] categories = getThemeCategory(theme);
+        TourSearchKey key = searchKey("areaBasedList2", pageable)
+                .areaCode(regionCode)
+                .cat1(categories.length > 0 ? categories[0] : null)
+                .cat2(categories.length > 1 ? categories[1] : null)
+                .build();
+        return cachedSearch(key, pageable, () -> fetchPlacesByRegionAndTheme(regionCode, theme, pageable));
+    }
 
-        } catch (Exception e) {
-            log.error("searchTours 오류", e);
-            return new PageImpl<>(new ArrayList<>(), pageable, 0);
-        }
+    /**
+     * 테마별 투어 검색 (cat1, cat2, cat3 활용) (논블로킹)
+     */
+    public Mono<Page<CartResponse.TourSearchResponse>> searchToursByThemeAsync(String theme, String region, Pageable pageable) {
+        String[] categories = getThemeCategories(theme);
+        TourSearchKey key = searchKey("areaBasedList2", pageable)
+                .areaCode(region != null ? AREA_CODES.get(region) : null)
+                .cat1(categories.length > 0 ? categories[0] : null)
+                .cat2(categories.length > 1 ? categories[1] : null)
+                .cat3(categories.length > 2 ? categories[2] : null)
+                .build();
+        return cachedSearch(key, pageable, () -> fetchToursByTheme(theme, region, pageable));
+    }
+
+    /**
+     * 법정동 코드로 장소 검색 (논블로킹)
+     */
+    public Mono<Page<CartResponse.TourSearchResponse>> searchPlacesByLDongAsync(String lDongRegnCd, String lDongSignguCd, Pageable pageable) {
+        TourSearchKey key = searchKey("areaBasedList2", pageable)
+                .lDongRegnCd(lDongRegnCd)
+                .lDongSignguCd(lDongSignguCd)
+                .build();
+        return cachedSearch(key, pageable, () -> fetchPlacesByLDong(lDongRegnCd, lDongSignguCd, pageable));
+    }
+
+    /**
+     * 법정동 코드와 contentTypeId로 장소 검색 (논블로킹)
+     */
+    public Mono<Page<CartResponse.TourSearchResponse>> searchPlacesByLDongAndContentTypeAsync(String lDongRegnCd, String lDongSignguCd, Integer contentTypeId, Pageable pageable) {
+        TourSearchKey key = searchKey("areaBasedList2", pageable)
+                .lDongRegnCd(lDongRegnCd)
+                .lDongSignguCd(lDongSignguCd)
+                .contentTypeId(contentTypeId != null ? String.valueOf(contentTypeId) : null)
+                .build();
+        return cachedSearch(key, pageable, () -> fetchPlacesByLDongAndContentType(lDongRegnCd, lDongSignguCd, contentTypeId, pageable));
+    }
+
+    /**
+     * 검색 캐시 지표
+     */
+    public Map<String, Object> getSearchCacheStats() {
+        return tourSearchCache.getStats();
+    }
+
+    private TourSearchKey.TourSearchKeyBuilder searchKey(String endpoint, Pageable pageable) {
+        return TourSearchKey.builder()
+                .endpoint(endpoint)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize());
+    }
+
+    /**
+     * 목록 캐시 → 로컬 사본(tour_catalog) → 외부 API 순으로 조회
+     * 외부 API까지 실패하면 TTL이 지난 마지막 정상 결과, 그것도 없으면 빈 페이지로 응답
+     * 결과는 캐시 적중 여부와 관계없이 상세 조회용 캐시에도 반영하고, 상위 N건은 상세 정보를 선조회
+     */
+    private Mono<Page<CartResponse.TourSearchResponse>> cachedSearch(TourSearchKey key, Pageable pageable,
+                                                                     Supplier<Mono<Page<CartResponse.TourSearchResponse>>> loader) {
+        return tourSearchCache.get(key, pageable, () -> searchCatalogOrFetch(key, pageable, loader))
+                .onErrorResume(e -> {
+                    // 외부 API 실패/서킷 open: 마지막 정상 결과가 있으면 그대로 응답
+                    log.warn("목록 조회 실패, 보관된 결과로 대체 - {}: {}", key.endpoint(), e.toString());
+                    return Mono.just(tourSearchCache.getStale(key, pageable)
+                            .orElseGet(() -> new PageImpl<>(new ArrayList<>(), pageable, 0)));
+                })
+                .defaultIfEmpty(new PageImpl<>(new ArrayList<>(), pageable, 0))
+                .doOnNext(page -> {
+                    page.forEach(this::cacheSearchResult);
+                    prefetchDetails(page);
+                });
+    }
+
+    /**
+     * 로컬 사본 조회(JPA, 블로킹)는 boundedElastic에서 수행하고, 결과가 없을 때만 외부 API 호출
+     */
+    private Mono<Page<CartResponse.TourSearchResponse>> searchCatalogOrFetch(TourSearchKey key, Pageable pageable,
+                                                                             Supplier<Mono<Page<CartResponse.TourSearchResponse>>> loader) {
+        return Mono.fromCallable(() -> tourCatalogService.search(key, pageable))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(replica -> replica.map(Mono::just).orElseGet(loader));
+    }
+
+    /**
+     * 키워드를 이용한 관광지 검색 (searchKeyword2 직접 호출)
+     */
+    private Mono<Page<CartResponse.TourSearchResponse>> fetchTours(String keyword, String region, String category, Pageable pageable) {
+        log.info("=== searchTours 시작 ===");
+        log.info("keyword: {}, region: {}, category: {}", keyword, region, category);
+
+        String uri = buildSearchUri(keyword, region, category, pageable);
+        log.info("요청 URL: {}", uri);
+
+        return fetch(uri, Duration.ofSeconds(10))
+                .doOnNext(response -> log.info("API 응답 수신 완료"))
+                .map(response -> parseTourResponse(response, pageable))
+                .doOnError(e -> !(e instanceof CallNotPermittedException), e -> log.error("searchTours 오류", e));
     }
 
     /**
@@ -127,29 +276,18 @@ public class TourApiClient {
     }
 
     /**
-     * 지역 기반 관광지 검색
+     * 지역 기반 관광지 검색 (areaBasedList2 직접 호출)
      */
-    public Page<CartResponse.TourSearchResponse> searchToursByArea(String areaCode, String sigunguCode, Pageable pageable) {
-        try {
-            log.info("지역 기반 관광지 검색 - areaCode: {}, sigunguCode: {}", areaCode, sigunguCode);
-
-            String uri = buildAreaBasedUri(areaCode, sigunguCode, pageable);
-            log.info("요청 URL: {}", uri);
+    private Mono<Page<CartResponse.TourSearchResponse>> fetchToursByArea(String areaCode, String sigunguCode, Pageable pageable) {
+        log.info("지역 기반 관광지 검색 - areaCode: {}, sigunguCode: {}", areaCode, sigunguCode);
 
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
+        String uri = buildAreaBasedUri(areaCode, sigunguCode, pageable);
+        log.info("요청 URL: {}", uri);
 
-            log.info("API 응답 수신 완료");
-            return parseTourResponse(response, pageable);
-
-        } catch (Exception e) {
-            log.error("지역 기반 관광지 검색 중 오류 발생: {}", e.getMessage(), e);
-            return new PageImpl<>(new ArrayList<>(), pageable, 0);
-        }
+        return fetch(uri, Duration.ofSeconds(30))
+                .doOnNext(response -> log.info("API 응답 수신 완료"))
+                .map(response -> parseTourResponse(response, pageable))
+                .doOnError(e -> !(e instanceof CallNotPermittedException), e -> log.error("지역 기반 관광지 검색 중 오류 발생: {}", e.getMessage(), e));
     }
 
     /**
@@ -178,61 +316,60 @@ public class TourApiClient {
     }
 
     /**
-     * API 응답 파싱
+     * 카탈로그 동기화용 areaBasedList2 조회 (캐시/로컬 사본을 거치지 않음)
+     * 실패를 빈 페이지로 바꾸면 동기화가 지역의 끝으로 오인하므로, 호출·파싱·API 오류는 모두 예외로 던집니다.
+     * @param areaCode null이면 전체 지역
+     * @param arrange A=제목순, C=수정일순
      */
-    private Page<CartResponse.TourSearchResponse> parseTourResponse(String response, Pageable pageable) {
-        try {
-            log.info("=== parseTourResponse 시작 ===");
-            log.info("응답 길이: {}", response.length());
-
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode responseNode = root.path("response");
-
-            if (responseNode.isMissingNode()) {
-                log.error("response 노드 없음");
-                return new PageImpl<>(new ArrayList<>(), pageable, 0);
-            }
-
-            JsonNode header = responseNode.path("header");
-            String resultCode = header.path("resultCode").asText();
-            log.info("resultCode: {}", resultCode);
+    public Page<CartResponse.TourSearchResponse> fetchAreaBasedListForSync(String areaCode, String arrange, Pageable pageable) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/areaBasedList2")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("MobileOS", "ETC")
+                .queryParam("MobileApp", "TravelPlanner")
+                .queryParam("_type", "json")
+                .queryParam("arrange", arrange)
+                .queryParam("pageNo", pageable.getPageNumber() + 1)
+                .queryParam("numOfRows", pageable.getPageSize());
 
-            if (!"0000".equals(resultCode)) {
-                log.error("API 오류: {}", header.path("resultMsg").asText());
-                return new PageImpl<>(new ArrayList<>(), pageable, 0);
-            }
+        if (areaCode != null) {
+            builder.queryParam("areaCode", areaCode);
+        }
 
-            JsonNode items = responseNode.path("body").path("items");
-            JsonNode itemNode = items.path("item");
+        byte[] response = fetch(builder.build(false).toUriString(), Duration.ofSeconds(60)).block();
+        if (response == null) {
+            throw new IllegalStateException("카탈로그 동기화용 목록 응답 없음 - areaCode: " + areaCode
+                    + ", page: " + pageable.getPageNumber());
+        }
 
-            log.info("item 노드 타입: {}, 크기: {}",
-                    itemNode.getNodeType(),
-                    itemNode.isArray() ? itemNode.size() : "단일");
+        TourListResponseParser.Result result;
+        try {
+            result = TourListResponseParser.parse(response);
+        } catch (Exception e) {
+            throw new IllegalStateException("카탈로그 동기화용 목록 파싱 실패 - areaCode: " + areaCode
+                    + ", page: " + pageable.getPageNumber(), e);
+        }
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("카탈로그 동기화용 목록 API 오류 - resultCode: " + result.resultCode()
+                    + ", resultMsg: " + result.resultMsg());
+        }
+        return new PageImpl<>(result.items(), pageable, result.totalCount());
+    }
 
-            List<CartResponse.TourSearchResponse> tours = new ArrayList<>();
+    /**
+     * 목록 API 응답 파싱 (TourListResponseParser로 바이트를 바로 DTO로 변환)
+     */
+    private Page<CartResponse.TourSearchResponse> parseTourResponse(byte[] response, Pageable pageable) {
+        try {
+            TourListResponseParser.Result result = TourListResponseParser.parse(response);
 
-            if (itemNode.isArray()) {
-                for (JsonNode item : itemNode) {
-                    CartResponse.TourSearchResponse tour = createTourResponse(item);
-                    if (tour != null) {
-                        tours.add(tour);
-                        // 상세 조회용 캐시에 저장
-                        tourDataCache.put(tour.getContentId(), item);
-                        log.info("추가된 tour: {}", tour.getTitle());
-                    }
-                }
-            } else if (!itemNode.isMissingNode() && !itemNode.isNull()) {
-                // 단일 결과인 경우
-                CartResponse.TourSearchResponse tour = createTourResponse(itemNode);
-                if (tour != null) {
-                    tours.add(tour);
-                    // 상세 조회용 캐시에 저장
-                    tourDataCache.put(tour.getContentId(), itemNode);
-                }
+            if (!result.isSuccess()) {
+                log.error("API 오류 - resultCode: {}, resultMsg: {}", result.resultCode(), result.resultMsg());
+                return new PageImpl<>(new ArrayList<>(), pageable, 0);
             }
 
-            log.info("파싱 완료 - 총 {}개", tours.size());
-            return new PageImpl<>(tours, pageable, responseNode.path("body").path("totalCount").asInt(0));
+            log.debug("목록 응답 파싱 완료 - {}bytes, {}개 / 전체 {}개", response.length, result.items().size(), result.totalCount());
+            return new PageImpl<>(result.items(), pageable, result.totalCount());
 
         } catch (Exception e) {
             log.error("파싱 오류", e);
@@ -241,46 +378,34 @@ public class TourApiClient {
     }
 
     /**
-     * 개별 tour 응답 객체 생성 (KorService2 응답 포맷)
+     * 상세 조회용 캐시에 검색 결과 저장
      */
-    private CartResponse.TourSearchResponse createTourResponse(JsonNode item) {
-        try {
-            log.info("item 전체 구조: {}", item.toPrettyString());
-
-            return CartResponse.TourSearchResponse.builder()
-                    .contentId(item.path("contentid").asText(""))
-                    .contentTypeId(item.path("contenttypeid").asText(""))
-                    .title(item.path("title").asText(""))
-                    .address(item.path("addr1").asText(""))
-                    .address2(item.path("addr2").asText(""))
-                    .zipcode(item.path("zipcode").asText(""))
-                    .areaCode(item.path("areacode").asText(""))
-                    .cat1(item.path("cat1").asText(""))
-                    .cat2(item.path("cat2").asText(""))
-                    .cat3(item.path("cat3").asText(""))
-                    .createdTime(item.path("createdtime").asText(""))
-                    .firstImage(item.path("firstimage").asText(""))
-                    .firstImage2(item.path("firstimage2").asText(""))
-                    .cpyrhtDivCd(item.path("cpyrhtDivCd").asText(""))
-                    .mapX(item.path("mapx").asText(""))
-                    .mapY(item.path("mapy").asText(""))
-                    .mlevel(item.path("mlevel").asText(""))
-                    .modifiedTime(item.path("modifiedtime").asText(""))
-                    .sigunguCode(item.path("sigungucode").asText(""))
-                    .tel(item.path("tel").asText(""))
-                    .overview("") // overview는 JSON에 없어서 기본값
-                    .lDongRegnCd(item.path("lDongRegnCd").asText(""))
-                    .lDongSignguCd(item.path("lDongSignguCd").asText(""))
-                    .lclsSystm1(item.path("lclsSystm1").asText(""))
-                    .lclsSystm2(item.path("lclsSystm2").asText(""))
-                    .lclsSystm3(item.path("lclsSystm3").asText(""))
-                    .build();
-        } catch (Exception e) {
-            log.error("Tour 응답 객체 생성 오류", e);
-            return null;
+    private void cacheSearchResult(CartResponse.TourSearchResponse tour) {
+        if (tour.getContentId() != null && !tour.getContentId().isEmpty()) {
+            searchResultCache.put(tour.getContentId(), tour);
         }
     }
 
+    // 검색 결과 상위 항목의 상세 정보를 백그라운드에서 미리 조회 (TourDetailPrefetcher 참고)
+    private void prefetchDetails(Page<CartResponse.TourSearchResponse> page) {
+        List<String> contentIds = page.getContent().stream()
+                .map(CartResponse.TourSearchResponse::getContentId)
+                .toList();
+        tourDetailPrefetcher.prefetch(contentIds,
+                contentId -> detailCalls.execute(contentId, () -> loadTourDetail(contentId)));
+    }
+
+    /**
+     * 검색 결과 캐시 통계 (hit/miss/eviction)
+     */
+    public CacheStats getSearchResultCacheStats() {
+        return searchResultCache.stats();
+    }
+
+    public long getSearchResultCacheSize() {
+        return searchResultCache.estimatedSize();
+    }
+
     /**
      * 관광타입 ID 반환 (contentTypeId)
      */
@@ -303,97 +428,231 @@ public class TourApiClient {
      * contentId로 투어 상세 정보 조회 (KorService2 표준 API 사용)
      */
     public CartResponse.TourDetailResponse getTourDetail(String contentId) {
-        try {
-            log.info("getTourDetail - contentId: {}", contentId);
+        return getTourDetailAsync(contentId).block();
+    }
 
-            // 1. detailCommon2 호출
-            JsonNode commonData = callDetailApi("detailCommon2", contentId, null);
-            if (commonData == null) {
-                return createFallbackDetailResponse(contentId);
-            }
+    /**
+     * contentId로 투어 상세 정보 조회 (논블로킹)
+     * detailCommon2로 contentTypeId를 확보한 뒤 나머지 4개 API를 동시에 호출합니다.
+     * 일부 호출이 실패하거나 시간을 초과하면 해당 데이터 없이 응답을 구성합니다.
+     */
+    public Mono<CartResponse.TourDetailResponse> getTourDetailAsync(String contentId) {
+        log.info("getTourDetail - contentId: {}", contentId);
 
-            // contentTypeId 추출
-            String contentTypeId = commonData.path("contenttypeid").asText("12");
-            
-            // 2. detailIntro2 호출 (contentTypeId 필요)
-            JsonNode introData = callDetailApi("detailIntro2", contentId, contentTypeId);
-            
-            // 3. detailInfo2 호출 (contentTypeId 필요) 
-            JsonNode infoData = callDetailApi("detailInfo2", contentId, contentTypeId);
-            
-            // 4. detailImage2 호출
-            JsonNode imageData = callDetailApi("detailImage2", contentId, null);
-            
-            // 5. detailPetTour2 호출 (선택사항)
-            JsonNode petData = callDetailApi("detailPetTour2", contentId, null);
+        // 0. 상세 캐시(선조회 포함) 또는 직전 검색 결과에 있으면 외부 호출 없이 응답
+        Optional<CartResponse.TourDetailResponse> cachedDetail = getCachedTourDetail(contentId);
+        if (cachedDetail.isPresent()) {
+            return Mono.just(cachedDetail.get());
+        }
 
-            return buildIntegratedDetailResponse(contentId, contentTypeId, commonData, introData, infoData, imageData, petData);
+        return detailCalls.execute(contentId, () -> loadTourDetail(contentId));
+    }
 
-        } catch (Exception e) {
-            log.error("상세 정보 조회 실패 - contentId: {}", contentId, e);
-            return createFallbackDetailResponse(contentId);
+    /**
+     * 외부 호출 없이 캐시에 있는 상세 정보만 조회
+     */
+    public Optional<CartResponse.TourDetailResponse> getCachedTourDetail(String contentId) {
+        Optional<CartResponse.TourDetailResponse> cachedDetail = tourDetailPrefetcher.get(contentId);
+        if (cachedDetail.isPresent()) {
+            log.info("상세 캐시 적중 - contentId: {}", contentId);
+            return cachedDetail;
+        }
+
+        CartResponse.TourSearchResponse searchResult = searchResultCache.getIfPresent(contentId);
+        if (searchResult != null) {
+            log.info("검색 결과 캐시 적중 - contentId: {}", contentId);
+            return Optional.of(buildDetailResponseFromSearchResult(searchResult));
         }
+        return Optional.empty();
+    }
+
+    /**
+     * 상세 정보 조회 (외부 API 실패 시 대체 응답 대신 빈 Mono)
+     * 실패하면 다시 시도해야 하는 비동기 보강처럼 대체 응답을 저장하면 안 되는 경우에 사용합니다.
+     */
+    public Mono<CartResponse.TourDetailResponse> findTourDetailAsync(String contentId) {
+        Optional<CartResponse.TourDetailResponse> cachedDetail = getCachedTourDetail(contentId);
+        if (cachedDetail.isPresent()) {
+            return Mono.just(cachedDetail.get());
+        }
+
+        // 정상 조회된 경우에만 상세 캐시에 저장되므로 캐시 여부로 대체 응답을 구분
+        return detailCalls.execute(contentId, () -> loadTourDetail(contentId))
+                .filter(detail -> tourDetailPrefetcher.contains(contentId));
+    }
+
+    /**
+     * 외부 API 5종을 조합한 상세 정보 조회
+     */
+    private Mono<CartResponse.TourDetailResponse> loadTourDetail(String contentId) {
+        // 1. detailCommon2 호출 (contentTypeId 확보)
+        return callDetailApi("detailCommon2", contentId, null)
+                .flatMap(commonData -> {
+                    if (commonData.isMissingNode()) {
+                        return Mono.just(createFallbackDetailResponse(contentId));
+                    }
+
+                    // contentTypeId 추출
+                    String contentTypeId = commonData.path("contenttypeid").asText("12");
+
+                    // 2~5. detailIntro2, detailInfo2, detailImage2, detailPetTour2 동시 호출
+                    return Mono.zip(
+                                    callDetailApi("detailIntro2", contentId, contentTypeId),
+                                    callDetailApi("detailInfo2", contentId, contentTypeId),
+                                    callDetailApi("detailImage2", contentId, null),
+                                    callDetailApi("detailPetTour2", contentId, null))
+                            .map(details -> buildIntegratedDetailResponse(contentId, contentTypeId, commonData,
+                                    orNull(details.getT1()), orNull(details.getT2()),
+                                    orNull(details.getT3()), orNull(details.getT4())))
+                            .doOnNext(detail -> tourDetailPrefetcher.put(contentId, detail));
+                })
+                .timeout(DETAIL_TOTAL_TIMEOUT)
+                .onErrorResume(e -> {
+                    log.error("상세 정보 조회 실패 - contentId: {}", contentId, e);
+                    return Mono.just(createFallbackDetailResponse(contentId));
+                });
     }
 
     /**
      * KorService2 Detail API 호출 (Postman Collection 기준)
+     * 실패, 시간 초과, 빈 응답은 모두 MissingNode로 변환되어 Mono.zip이 중단되지 않습니다.
      */
-    private JsonNode callDetailApi(String apiPath, String contentId, String contentTypeId) {
-        try {
-            UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                    .path("/" + apiPath)
-                    .queryParam("serviceKey", apiKey)
-                    .queryParam("MobileOS", "ETC")
-                    .queryParam("MobileApp", "MyApp")
-                    .queryParam("contentId", contentId)
-                    .queryParam("_type", "json");
+    private Mono<JsonNode> callDetailApi(String apiPath, String contentId, String contentTypeId) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/" + apiPath)
+                .queryParam("serviceKey", apiKey)
+                .queryParam("MobileOS", "ETC")
+                .queryParam("MobileApp", "MyApp")
+                .queryParam("contentId", contentId)
+                .queryParam("_type", "json");
 
-            // detailIntro2, detailInfo2는 contentTypeId 필요
-            if (contentTypeId != null && ("detailIntro2".equals(apiPath) || "detailInfo2".equals(apiPath))) {
-                builder.queryParam("contentTypeId", contentTypeId);
-            }
+        // detailIntro2, detailInfo2는 contentTypeId 필요
+        if (contentTypeId != null && ("detailIntro2".equals(apiPath) || "detailInfo2".equals(apiPath))) {
+            builder.queryParam("contentTypeId", contentTypeId);
+        }
 
-            // detailImage2는 imageYN 파라미터 필요
-            if ("detailImage2".equals(apiPath)) {
-                builder.queryParam("imageYN", "Y");
-            }
+        // detailImage2는 imageYN 파라미터 필요
+        if ("detailImage2".equals(apiPath)) {
+            builder.queryParam("imageYN", "Y");
+        }
+
+        String uri = builder.build(false).toUriString();
+        log.info("{} 호출 URL: {}", apiPath, uri);
+
+        return fetch(uri, DETAIL_CALL_TIMEOUT)
+                .map(response -> extractDetailItem(apiPath, response))
+                .defaultIfEmpty(MissingNode.getInstance())
+                .onErrorResume(e -> {
+                    if (e instanceof CallNotPermittedException) {
+                        log.warn("{} 호출 차단 (서킷 open) - contentId: {}", apiPath, contentId);
+                    } else {
+                        log.error("{} 호출 실패: {}", apiPath, e.getMessage(), e);
+                    }
+                    return Mono.just(MissingNode.getInstance());
+                });
+    }
+
+    /**
+     * KorService2 GET 호출
+     * 같은 URI로 진행 중인 호출이 있으면 새로 요청하지 않고 그 응답을 함께 사용합니다.
+     * 실제 호출은 구간별 서킷 브레이커/벌크헤드를 거칩니다.
+     */
+    private Mono<byte[]> fetch(String uri, Duration timeout) {
+        return upstreamCalls.execute(uri, () -> tourApiResilience.decorate(apiPathOf(uri), webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(timeout)));
+    }
+
+    private String apiPathOf(String uri) {
+        List<String> segments = UriComponentsBuilder.fromUriString(uri).build().getPathSegments();
+        return segments.isEmpty() ? "" : segments.get(segments.size() - 1);
+    }
 
-            String uri = builder.build(false).toUriString();
-            log.info("{} 호출 URL: {}", apiPath, uri);
+    /**
+     * 구간별 서킷 브레이커/벌크헤드 상태
+     */
+    public Map<String, Object> getResilienceStats() {
+        return tourApiResilience.getStats();
+    }
+
+    /**
+     * 상세 캐시/선조회 지표
+     */
+    public Map<String, Object> getDetailPrefetchStats() {
+        return tourDetailPrefetcher.getStats();
+    }
 
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+    /**
+     * single-flight 지표 (실제 호출 수 / 합쳐진 요청 수)
+     */
+    public Map<String, Object> getSingleFlightStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("upstream", upstreamCalls.getStats());
+        stats.put("detail", detailCalls.getStats());
+        return stats;
+    }
 
+    /**
+     * Detail API 응답에서 첫 번째 item 추출
+     */
+    private JsonNode extractDetailItem(String apiPath, byte[] response) {
+        try {
             JsonNode root = objectMapper.readTree(response);
             JsonNode responseNode = root.path("response");
-            
+
             if (!"0000".equals(responseNode.path("header").path("resultCode").asText())) {
                 log.warn("{} API 오류: {}", apiPath, responseNode.path("header").path("resultMsg").asText());
-                return null;
+                return MissingNode.getInstance();
             }
 
             JsonNode items = responseNode.path("body").path("items");
             JsonNode itemNode = items.path("item");
-            
+
             // 배열인 경우 첫 번째 항목 반환, 단일 항목인 경우 그대로 반환
             if (itemNode.isArray() && itemNode.size() > 0) {
                 return itemNode.get(0);
             } else if (!itemNode.isMissingNode() && !itemNode.isNull()) {
                 return itemNode;
             }
-            
-            return null;
+
+            return MissingNode.getInstance();
 
         } catch (Exception e) {
-            log.error("{} 호출 실패: {}", apiPath, e.getMessage(), e);
-            return null;
+            log.error("{} 응답 파싱 실패: {}", apiPath, e.getMessage(), e);
+            return MissingNode.getInstance();
         }
     }
 
+    /**
+     * 검색 결과(목록 API 항목)로 상세 응답 생성
+     */
+    private CartResponse.TourDetailResponse buildDetailResponseFromSearchResult(CartResponse.TourSearchResponse tour) {
+        return CartResponse.TourDetailResponse.builder()
+                .contentId(tour.getContentId())
+                .contentTypeId(tour.getContentTypeId())
+                .title(tour.getTitle())
+                .address(tour.getAddress())
+                .region(getRegionByAreaCode(tour.getAreaCode()))
+                .theme(getCategoryName(tour.getCat1(), tour.getCat2(), tour.getCat3()))
+                .latitude(parseDouble(tour.getMapY()))
+                .longitude(parseDouble(tour.getMapX()))
+                .image(tour.getFirstImage())
+                .tel(tour.getTel())
+                .homepage("")                    // 목록 API에는 홈페이지 정보 없음
+                .overview("")
+                .lDongRegnCd(tour.getLDongRegnCd())
+                .lDongSignguCd(tour.getLDongSignguCd())
+                .isFavorite(false)
+                .isInCart(false)
+                .build();
+    }
+
+    private JsonNode orNull(JsonNode node) {
+        return node == null || node.isMissingNode() ? null : node;
+    }
+
     /**
      * 프론트엔드 요구사항에 맞는 간소화된 응답 생성
      */
@@ -451,109 +710,76 @@ public class TourApiClient {
 
 
     /**
-     * 지역 코드로 장소 검색
+     * 지역 코드로 장소 검색 (areaBasedList2 직접 호출)
      */
-    public Page<CartResponse.TourSearchResponse> searchPlacesByRegion(String regionCode, Pageable pageable) {
-        try {
-            log.info("=== 지역 코드로 장소 검색 - regionCode: {} ===", regionCode);
+    private Mono<Page<CartResponse.TourSearchResponse>> fetchPlacesByRegion(String regionCode, Pageable pageable) {
+        log.info("=== 지역 코드로 장소 검색 - regionCode: {} ===", regionCode);
 
-            String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                    .path("/areaBasedList2")
-                    .queryParam("serviceKey", apiKey)
-                    .queryParam("MobileOS", "ETC")
-                    .queryParam("MobileApp", "TravelPlanner")
-                    .queryParam("_type", "json")
-                    .queryParam("arrange", "A")
-                    .queryParam("pageNo", pageable.getPageNumber() + 1)
-                    .queryParam("numOfRows", pageable.getPageSize())
-                    .queryParam("areaCode", regionCode)
-                    .build(false)
-                    .toUriString();
-
-            log.info("지역 검색 URL: {}", uri);
-
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+        String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/areaBasedList2")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("MobileOS", "ETC")
+                .queryParam("MobileApp", "TravelPlanner")
+                .queryParam("_type", "json")
+                .queryParam("arrange", "A")
+                .queryParam("pageNo", pageable.getPageNumber() + 1)
+                .queryParam("numOfRows", pageable.getPageSize())
+                .queryParam("areaCode", regionCode)
+                .build(false)
+                .toUriString();
 
-            return parseSearchResponse(response, pageable);
+        log.info("지역 검색 URL: {}", uri);
 
-        } catch (Exception e) {
-            log.error("지역별 검색 실패", e);
-            return Page.empty(pageable);
-        }
+        return fetch(uri, Duration.ofSeconds(10))
+                .map(response -> parseSearchResponse(response, pageable))
+                .doOnError(e -> !(e instanceof CallNotPermittedException), e -> log.error("지역별 검색 실패", e));
     }
 
     /**
-     * 지역 코드와 테마로 장소 검색
+     * 지역 코드와 테마로 장소 검색 (areaBasedList2 직접 호출)
      */
-    public Page<CartResponse.TourSearchResponse> searchPlacesByRegionAndTheme(String regionCode, String theme, Pageable pageable) {
-        try {
-            log.info("=== 지역-테마 검색 - regionCode: {}, theme: {} ===", regionCode, theme);
-
-            String[] themeCategory = getThemeCategory(theme);
-            String cat1 = themeCategory.length > 0 ? themeCategory[0] : "";
-            String cat2 = themeCategory.length > 1 ? themeCategory[1] : "";
+    private Mono<Page<CartResponse.TourSearchResponse>> fetchPlacesByRegionAndTheme(String regionCode, String theme, Pageable pageable) {
+        log.info("=== 지역-테마 검색 - regionCode: {}, theme: {} ===", regionCode, theme);
 
-            String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                    .path("/areaBasedList2")
-                    .queryParam("serviceKey", apiKey)
-                    .queryParam("MobileOS", "ETC")
-                    .queryParam("MobileApp", "TravelPlanner")
-                    .queryParam("_type", "json")
-                    .queryParam("arrange", "A")
-                    .queryParam("pageNo", pageable.getPageNumber() + 1)
-                    .queryParam("numOfRows", pageable.getPageSize())
-                    .queryParam("areaCode", regionCode)
-                    .queryParam("cat1", cat1)
-                    .queryParam("cat2", cat2)
-                    .build(false)
-                    .toUriString();
-
-            log.info("지역-테마 검색 URL: {}", uri);
-
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+        String[] themeCategory = getThemeCategory(theme);
+        String cat1 = themeCategory.length > 0 ? themeCategory[0] : "";
+        String cat2 = themeCategory.length > 1 ? themeCategory[1] : "";
 
-            return parseSearchResponse(response, pageable);
-
-        } catch (Exception e) {
-            log.error("지역-테마 검색 실패", e);
-            return Page.empty(pageable);
-        }
+        String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/areaBasedList2")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("MobileOS", "ETC")
+                .queryParam("MobileApp", "TravelPlanner")
+                .queryParam("_type", "json")
+                .queryParam("arrange", "A")
+                .queryParam("pageNo", pageable.getPageNumber() + 1)
+                .queryParam("numOfRows", pageable.getPageSize())
+                .queryParam("areaCode", regionCode)
+                .queryParam("cat1", cat1)
+                .queryParam("cat2", cat2)
+                .build(false)
+                .toUriString();
+
+        log.info("지역-테마 검색 URL: {}", uri);
+
+        return fetch(uri, Duration.ofSeconds(10))
+                .map(response -> parseSearchResponse(response, pageable))
+                .doOnError(e -> !(e instanceof CallNotPermittedException), e -> log.error("지역-테마 검색 실패", e));
     }
 
     /**
-     * 테마별 투어 검색 (cat1, cat2, cat3 활용)
+     * 테마별 투어 검색 (cat1, cat2, cat3 활용, areaBasedList2 직접 호출)
      */
-    public Page<CartResponse.TourSearchResponse> searchToursByTheme(String theme, String region, Pageable pageable) {
-        try {
-            log.info("=== 테마별 검색 시작 - theme: {}, region: {} ===", theme, region);
-
-            String uri = buildThemeSearchUri(theme, region, pageable);
-            log.info("테마 검색 요청 URL: {}", uri);
+    private Mono<Page<CartResponse.TourSearchResponse>> fetchToursByTheme(String theme, String region, Pageable pageable) {
+        log.info("=== 테마별 검색 시작 - theme: {}, region: {} ===", theme, region);
 
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
+        String uri = buildThemeSearchUri(theme, region, pageable);
+        log.info("테마 검색 요청 URL: {}", uri);
 
-            log.info("테마 검색 API 응답 수신 완료");
-            return parseTourResponse(response, pageable);
-
-        } catch (Exception e) {
-            log.error("테마별 검색 실패", e);
-            return new PageImpl<>(new ArrayList<>(), pageable, 0);
-        }
+        return fetch(uri, Duration.ofSeconds(5))
+                .doOnNext(response -> log.info("테마 검색 API 응답 수신 완료"))
+                .map(response -> parseTourResponse(response, pageable))
+                .doOnError(e -> !(e instanceof CallNotPermittedException), e -> log.error("테마별 검색 실패", e));
     }
 
     /**
@@ -624,85 +850,63 @@ public class TourApiClient {
     /**
      * 검색 응답 파싱 (parseTourResponse와 동일한 로직)
      */
-    private Page<CartResponse.TourSearchResponse> parseSearchResponse(String response, Pageable pageable) {
+    private Page<CartResponse.TourSearchResponse> parseSearchResponse(byte[] response, Pageable pageable) {
         return parseTourResponse(response, pageable);
     }
 
     /**
-     * 법정동 코드로 장소 검색
+     * 법정동 코드로 장소 검색 (areaBasedList2 직접 호출)
      */
-    public Page<CartResponse.TourSearchResponse> searchPlacesByLDong(String lDongRegnCd, String lDongSignguCd, Pageable pageable) {
-        try {
-            log.info("=== 법정동 코드로 장소 검색 - lDongRegnCd: {}, lDongSignguCd: {} ===", lDongRegnCd, lDongSignguCd);
-
-            String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                    .path("/areaBasedList2")
-                    .queryParam("serviceKey", apiKey)
-                    .queryParam("MobileOS", "ETC")
-                    .queryParam("MobileApp", "TravelPlanner")
-                    .queryParam("_type", "json")
-                    .queryParam("arrange", "A")
-                    .queryParam("pageNo", pageable.getPageNumber() + 1)
-                    .queryParam("numOfRows", pageable.getPageSize())
-                    .queryParam("lDongRegnCd", lDongRegnCd)
-                    .queryParam("lDongSignguCd", lDongSignguCd)
-                    .build(false)
-                    .toUriString();
-
-            log.info("법정동 검색 URL: {}", uri);
+    private Mono<Page<CartResponse.TourSearchResponse>> fetchPlacesByLDong(String lDongRegnCd, String lDongSignguCd, Pageable pageable) {
+        log.info("=== 법정동 코드로 장소 검색 - lDongRegnCd: {}, lDongSignguCd: {} ===", lDongRegnCd, lDongSignguCd);
 
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+        String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/areaBasedList2")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("MobileOS", "ETC")
+                .queryParam("MobileApp", "TravelPlanner")
+                .queryParam("_type", "json")
+                .queryParam("arrange", "A")
+                .queryParam("pageNo", pageable.getPageNumber() + 1)
+                .queryParam("numOfRows", pageable.getPageSize())
+                .queryParam("lDongRegnCd", lDongRegnCd)
+                .queryParam("lDongSignguCd", lDongSignguCd)
+                .build(false)
+                .toUriString();
 
-            return parseSearchResponse(response, pageable);
+        log.info("법정동 검색 URL: {}", uri);
 
-        } catch (Exception e) {
-            log.error("법정동별 검색 실패", e);
-            return Page.empty(pageable);
-        }
+        return fetch(uri, Duration.ofSeconds(10))
+                .map(response -> parseSearchResponse(response, pageable))
+                .doOnError(e -> !(e instanceof CallNotPermittedException), e -> log.error("법정동별 검색 실패", e));
     }
 
     /**
-     * 법정동 코드와 contentTypeId로 장소 검색
+     * 법정동 코드와 contentTypeId로 장소 검색 (areaBasedList2 직접 호출)
      */
-    public Page<CartResponse.TourSearchResponse> searchPlacesByLDongAndContentType(String lDongRegnCd, String lDongSignguCd, Integer contentTypeId, Pageable pageable) {
-        try {
-            log.info("=== 법정동-contentTypeId 검색 - lDongRegnCd: {}, lDongSignguCd: {}, contentTypeId: {} ===", lDongRegnCd, lDongSignguCd, contentTypeId);
-
-            String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                    .path("/areaBasedList2")
-                    .queryParam("serviceKey", apiKey)
-                    .queryParam("MobileOS", "ETC")
-                    .queryParam("MobileApp", "TravelPlanner")
-                    .queryParam("_type", "json")
-                    .queryParam("arrange", "A")
-                    .queryParam("pageNo", pageable.getPageNumber() + 1)
-                    .queryParam("numOfRows", pageable.getPageSize())
-                    .queryParam("lDongRegnCd", lDongRegnCd)
-                    .queryParam("lDongSignguCd", lDongSignguCd)
-                    .queryParam("contentTypeId", contentTypeId)
-                    .build(false)
-                    .toUriString();
-
-            log.info("법정동-contentTypeId 검색 URL: {}", uri);
-
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+    private Mono<Page<CartResponse.TourSearchResponse>> fetchPlacesByLDongAndContentType(String lDongRegnCd, String lDongSignguCd, Integer contentTypeId, Pageable pageable) {
+        log.info("=== 법정동-contentTypeId 검색 - lDongRegnCd: {}, lDongSignguCd: {}, contentTypeId: {} ===", lDongRegnCd, lDongSignguCd, contentTypeId);
 
-            return parseSearchResponse(response, pageable);
-
-        } catch (Exception e) {
-            log.error("법정동-contentTypeId 검색 실패", e);
-            return Page.empty(pageable);
-        }
+        String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path("/areaBasedList2")
+                .queryParam("serviceKey", apiKey)
+                .queryParam("MobileOS", "ETC")
+                .queryParam("MobileApp", "TravelPlanner")
+                .queryParam("_type", "json")
+                .queryParam("arrange", "A")
+                .queryParam("pageNo", pageable.getPageNumber() + 1)
+                .queryParam("numOfRows", pageable.getPageSize())
+                .queryParam("lDongRegnCd", lDongRegnCd)
+                .queryParam("lDongSignguCd", lDongSignguCd)
+                .queryParam("contentTypeId", contentTypeId)
+                .build(false)
+                .toUriString();
+
+        log.info("법정동-contentTypeId 검색 URL: {}", uri);
+
+        return fetch(uri, Duration.ofSeconds(10))
+                .map(response -> parseSearchResponse(response, pageable))
+                .doOnError(e -> !(e instanceof CallNotPermittedException), e -> log.error("법정동-contentTypeId 검색 실패", e));
     }
 
 
@@ -787,117 +991,27 @@ public class TourApiClient {
 
             log.info("API 연결 테스트 URL: {}", uri);
 
-            String response = webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(30))
-                    .block();
+            byte[] response = fetch(uri, Duration.ofSeconds(30)).block();
 
             log.info("API 연결 테스트 성공");
-            return response;
+            return new String(response, StandardCharsets.UTF_8);
 
         } catch (Exception e) {
             log.error("API 연결 테스트 실패: {}", e.getMessage(), e);
             throw new RuntimeException("TourAPI 연결 실패: " + e.getMessage(), e);
         }
     }
-    /**
-     * [최종] contentId 리스트로 Tour의 제목 Map을 조회 (DB 사용)
-     * @param contentIds 조회할 Tour의 contentId 목록
-     * @return Map<contentId, title> 형태의 Tour 제목 정보
-     */
-    public Map<String, String> getTourTitlesMapByContentIds(List<String> contentIds) {
-        try {
-            log.info("=== DB에서 Tour 엔티티 조회 시작 (Map 생성) - contentIds 개수: {} ===", contentIds.size());
-            if (contentIds == null || contentIds.isEmpty()) {
-                log.warn("조회할 contentId가 없습니다.");
-                return new HashMap<>();
-            }
-            List<Tour> tours = tourRepository.findByContentIdIn(contentIds);
-
-            Map<String, String> titleMap = tours.stream()
-                    .collect(Collectors.toMap(
-                            Tour::getContentId,
-                            Tour::getTitle,
-                            (existing, replacement) -> existing // 중복 contentId 발생 시 기존 값 유지
-                    ));
-
-            log.info("DB에서 총 {}개의 엔티티를 Map으로 변환 완료", titleMap.size());
-            return titleMap;
-
-        } catch (Exception e) {
-            log.error("DB에서 Tour 정보 조회 중 오류 발생", e);
-            return new HashMap<>();
-        }
-    }
-
-    /**
-     * contentId 리스트로 Tour의 위도, 경도 Map을 조회합니다. (DB 사용)
-     * @param contentIds 조회할 Tour의 contentId 목록
-     * @return Map<contentId, Map<"latitude", "longitude">> 형태의 위치 정보
-     */
-    public Map<String, Map<String, Double>> getTourLocationMapByContentIds(List<String> contentIds) {
-        if (contentIds == null || contentIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        List<Tour> tours = tourRepository.findByContentIdIn(contentIds);
-
-        return tours.stream()
-                .collect(Collectors.toMap(
-                        Tour::getContentId,
-                        tour -> {
-                            Map<String, Double> location = new HashMap<>();
-                            location.put("latitude", tour.getLatitude() != null ? tour.getLatitude() : 0.0);
-                            location.put("longitude", tour.getLongitude() != null ? tour.getLongitude() : 0.0);
-                            return location;
-                        },
-                        (existing, replacement) -> existing
-                ));
-    }
-
-    /**
-     * contentId 리스트로 Tour의 추가 정보(테마, 법정동 코드) Map을 조회합니다. (DB 사용)
-     * @param contentIds 조회할 Tour의 contentId 목록
-     * @return Map<contentId, Map<"tema", "lDongRegnCd", "lDongSignguCd">> 형태의 추가 정보
-     */
-    public Map<String, Map<String, String>> getTourExtraInfoMapByContentIds(List<String> contentIds) {
-        if (contentIds == null || contentIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        List<Tour> tours = tourRepository.findByContentIdIn(contentIds);
-
-        return tours.stream()
-                .collect(Collectors.toMap(
-                        Tour::getContentId,
-                        tour -> {
-                            Map<String, String> extraInfo = new HashMap<>();
-                            extraInfo.put("tema", tour.getTema() != null ? tour.getTema() : "");
-                            extraInfo.put("lDongRegnCd", tour.getLDongRegnCd() != null ? tour.getLDongRegnCd() : "");
-                            extraInfo.put("lDongSignguCd", tour.getLDongSignguCd() != null ? tour.getLDongSignguCd() : "");
-                            extraInfo.put("address", tour.getAddress() != null ? tour.getAddress() : "");
-                            return extraInfo;
-                        },
-                        (existingValue, newValue) -> existingValue // 중복 키 발생 시 기존 값을 사용
-                ));
-    }
 
     /**
-     * [추가] contentId 리스트로 TourCategory Map을 조회 (DB 사용)
-     * @param contentIds 조회할 Tour의 contentId 목록
-     * @return Map<contentId, TourCategory> 형태의 TourCategory 정보
+     * contentId 목록으로 장소 요약 정보(제목, 좌표, 테마, 법정동 코드, 주소, 카테고리) Map 조회
+     * 한 번의 projection 쿼리로 조회하며, place에 없는 contentId는 결과에 포함되지 않습니다.
      */
-    public Map<String, TourCategory> getTourCategoriesMapByContentIds(List<String> contentIds) {
-        log.info("=== DB에서 contentId 리스트로 TourCategory Map 조회 시작 - contentIds 개수: {} ===", contentIds.size());
+    public Map<String, PlaceSummary> getPlaceSummariesByContentIds(List<String> contentIds) {
         if (contentIds == null || contentIds.isEmpty()) {
             return Collections.emptyMap();
         }
-        List<Tour> tours = tourRepository.findByContentIdIn(contentIds);
 
-        return tours.stream()
-                .filter(tour -> tour.getCategory() != null) // TourCategory가 null이 아닌 경우만 필터링
-                .collect(Collectors.toMap(Tour::getContentId, Tour::getCategory, (existing, replacement) -> existing));
+        return placeRepository.findSummariesByContentIdIn(contentIds).stream()
+                .collect(Collectors.toMap(PlaceSummary::contentId, summary -> summary));
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.example.backend.tour.webclient;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * KorService2 호출 구간별 서킷 브레이커 + 벌크헤드
+ * - search: searchKeyword2 / areaList: areaBasedList2 / detail: detail*2 / etc: 그 외
+ * 서킷이 열리면 CallNotPermittedException으로 즉시 실패하고, 호출 측은 캐시된 데이터로 대체합니다.
+ */
+@Component
+@Slf4j
+public class TourApiResilience {
+
+    static final String SEARCH = "search";
+    static final String AREA_LIST = "areaList";
+    static final String DETAIL = "detail";
+    static final String ETC = "etc";
+
+    private static final List<String> ENDPOINTS = List.of(SEARCH, AREA_LIST, DETAIL, ETC);
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public TourApiResilience(
+            @Value("${tour.api.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${tour.api.circuit-breaker.slow-call-duration-ms:5000}") long slowCallDurationMs,
+            @Value("${tour.api.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${tour.api.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${tour.api.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${tour.api.circuit-breaker.wait-duration-in-open-state-ms:30000}") long waitDurationInOpenStateMs,
+            @Value("${tour.api.circuit-breaker.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState,
+            @Value("${tour.api.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls) {
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenStateMs))
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // 벌크헤드 초과는 업스트림 장애가 아니므로 실패율에 포함하지 않음
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+
+        // 리액티브 호출은 대기하지 않고 즉시 거절
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        this.bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig);
+
+        for (String endpoint : ENDPOINTS) {
+            circuitBreakerRegistry.circuitBreaker("tourApi-" + endpoint).getEventPublisher()
+                    .onStateTransition(event -> log.warn("TourAPI 서킷 상태 변경 - {}: {}",
+                            event.getCircuitBreakerName(), event.getStateTransition()));
+        }
+    }
+
+    /**
+     * API 경로(searchKeyword2, areaBasedList2, detailCommon2 ...)로 구간을 정해 호출을 감쌉니다.
+     */
+    public <T> Mono<T> decorate(String apiPath, Mono<T> call) {
+        String endpoint = endpointOf(apiPath);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("tourApi-" + endpoint);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("tourApi-" + endpoint);
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    /**
+     * 구간별 서킷/벌크헤드 상태
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String endpoint : ENDPOINTS) {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("tourApi-" + endpoint);
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead("tourApi-" + endpoint);
+            CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+
+            Map<String, Object> endpointStats = new LinkedHashMap<>();
+            endpointStats.put("state", circuitBreaker.getState().name());
+            endpointStats.put("failureRate", metrics.getFailureRate());
+            endpointStats.put("slowCallRate", metrics.getSlowCallRate());
+            endpointStats.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+            endpointStats.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+            endpointStats.put("availableConcurrentCalls", bulkhead.getMetrics().getAvailableConcurrentCalls());
+            stats.put(endpoint, endpointStats);
+        }
+        return stats;
+    }
+
+    private String endpointOf(String apiPath) {
+        if ("searchKeyword2".equals(apiPath)) {
+            return SEARCH;
+        }
+        if ("areaBasedList2".equals(apiPath)) {
+            return AREA_LIST;
+        }
+        if (apiPath != null && apiPath.startsWith("detail")) {
+            return DETAIL;
+        }
+        return ETC;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.backend.tour.webclient;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 상세 조회 캐시 + 검색 결과 상위 N건 상세 선조회(prefetch)
+ * 검색 직후 사용자가 결과를 열어볼 때 외부 API 5종 호출 없이 캐시에서 응답하도록
+ * 백그라운드 전용 스레드풀에서 초당 호출 수를 제한하며 미리 불러옵니다.
+ * 선조회는 tour.detail-prefetch.enabled=true 일 때만 동작합니다.
+ */
+@Component
+@Slf4j
+public class TourDetailPrefetcher {
+
+    private final TaskExecutor prefetchExecutor;
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final int topN;
+
+    private final Cache<String, CartResponse.TourDetailResponse> detailCache;
+    // 선조회했지만 아직 한 번도 조회되지 않은 contentId (선조회 적중률 계산용)
+    private final Cache<String, Boolean> unusedPrefetches;
+    // 같은 contentId에 대한 선조회가 중복 실행되지 않도록 관리
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder detailHits = new LongAdder();
+    private final LongAdder detailMisses = new LongAdder();
+    private final LongAdder prefetched = new LongAdder();
+    private final LongAdder prefetchHits = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public TourDetailPrefetcher(@Qualifier("tourPrefetchExecutor") TaskExecutor prefetchExecutor,
+                                @Value("${tour.detail-prefetch.enabled:false}") boolean enabled,
+                                @Value("${tour.detail-prefetch.top-n:5}") int topN,
+                                @Value("${tour.detail-prefetch.max-per-second:5}") int maxPerSecond,
+                                @Value("${tour.detail-cache.max-size:2000}") long cacheMaxSize,
+                                @Value("${tour.detail-cache.ttl-seconds:1800}") long cacheTtlSeconds) {
+        this.prefetchExecutor = prefetchExecutor;
+        this.enabled = enabled;
+        this.topN = topN;
+        // 허용량을 넘으면 기다리지 않고 선조회를 건너뜀
+        this.rateLimiter = RateLimiter.of("tourDetailPrefetch", RateLimiterConfig.custom()
+                .limitForPeriod(maxPerSecond)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+        this.unusedPrefetches = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 캐시된 상세 정보 조회 (선조회된 항목이 처음 조회되면 선조회 적중으로 집계)
+     */
+    public Optional<CartResponse.TourDetailResponse> get(String contentId) {
+        CartResponse.TourDetailResponse cached = detailCache.getIfPresent(contentId);
+        if (cached == null) {
+            detailMisses.increment();
+            return Optional.empty();
+        }
+        detailHits.increment();
+        if (unusedPrefetches.asMap().remove(contentId) != null) {
+            prefetchHits.increment();
+        }
+        return Optional.of(cached);
+    }
+
+    /**
+     * 지표 집계 없이 캐시 여부만 확인
+     */
+    public boolean contains(String contentId) {
+        return detailCache.getIfPresent(contentId) != null;
+    }
+
+    /**
+     * 외부 API로 정상 조회된 상세 정보만 저장합니다. (대체 응답은 저장하지 않음)
+     */
+    public void put(String contentId, CartResponse.TourDetailResponse detail) {
+        detailCache.put(contentId, detail);
+    }
+
+    /**
+     * 검색 결과 상위 N건의 상세 정보를 백그라운드에서 미리 불러옵니다.
+     * 이미 캐시에 있거나 진행 중인 항목은 건너뛰고, 호출 허용량/대기열을 넘으면 나머지는 포기합니다.
+     */
+    public void prefetch(List<String> contentIds, Function<String, Mono<CartResponse.TourDetailResponse>> loader) {
+        if (!enabled) {
+            return;
+        }
+
+        for (String contentId : contentIds.stream().limit(topN).toList()) {
+            if (contentId == null || contentId.isBlank()
+                    || detailCache.getIfPresent(contentId) != null || !pending.add(contentId)) {
+                continue;
+            }
+            if (!rateLimiter.acquirePermission()) {
+                pending.remove(contentId);
+                rateLimited.increment();
+                return;
+            }
+            try {
+                prefetchExecutor.execute(() -> load(contentId, loader));
+            } catch (TaskRejectedException e) {
+                pending.remove(contentId);
+                rejected.increment();
+                log.debug("상세 선조회 대기열 초과 - contentId: {}", contentId);
+                return;
+            }
+        }
+    }
+
+    private void load(String contentId, Function<String, Mono<CartResponse.TourDetailResponse>> loader) {
+        try {
+            loader.apply(contentId).block();
+            // 정상 조회된 경우에만 put()으로 캐시에 저장되므로 캐시 여부로 성공을 판단
+            if (detailCache.getIfPresent(contentId) != null) {
+                prefetched.increment();
+                unusedPrefetches.put(contentId, Boolean.TRUE);
+            } else {
+                failed.increment();
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("상세 선조회 실패 - contentId: {}, 원인: {}", contentId, e.getMessage());
+        } finally {
+            pending.remove(contentId);
+        }
+    }
+
+    /**
+     * 상세 캐시/선조회 지표
+     * prefetchHitRatio: 선조회한 항목 중 실제로 조회된 비율 (선조회 비용 대비 효과 판단용)
+     */
+    public Map<String, Object> getStats() {
+        long prefetchedCount = prefetched.sum();
+        long prefetchHitCount = prefetchHits.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("prefetchEnabled", enabled);
+        stats.put("cacheSize", detailCache.estimatedSize());
+        stats.put("detailHits", detailHits.sum());
+        stats.put("detailMisses", detailMisses.sum());
+        stats.put("prefetched", prefetchedCount);
+        stats.put("prefetchHits", prefetchHitCount);
+        stats.put("prefetchHitRatio", prefetchedCount == 0 ? 0.0 : (double) prefetchHitCount / prefetchedCount);
+        stats.put("rateLimited", rateLimited.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("failed", failed.sum());
+        stats.put("pending", pending.size());
+        return stats;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.backend.tour.webclient;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KorService2 목록 응답(searchKeyword2, areaBasedList2)의 스트리밍 파서
+ * 응답 바이트를 토큰 단위로 읽어 JsonNode 트리나 중간 String 없이 바로 DTO 목록을 만듭니다.
+ *
+ * <pre>
+ * {"response": {"header": {"resultCode": "0000", "resultMsg": "OK"},
+ *               "body": {"items": {"item": [ {...}, ... ]} | "", "totalCount": 123}}}
+ * </pre>
+ */
+final class TourListResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private TourListResponseParser() {
+    }
+
+    record Result(String resultCode, String resultMsg, List<CartResponse.TourSearchResponse> items, int totalCount) {
+
+        boolean isSuccess() {
+            return "0000".equals(resultCode);
+        }
+    }
+
+    static Result parse(byte[] body) throws IOException {
+        String resultCode = "";
+        String resultMsg = "";
+        List<CartResponse.TourSearchResponse> items = new ArrayList<>();
+        int totalCount = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String root = parser.currentName();
+                parser.nextToken();
+                if (!"response".equals(root) || parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String section = parser.currentName();
+                    parser.nextToken();
+                    if ("header".equals(section) && parser.currentToken() == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String name = parser.currentName();
+                            parser.nextToken();
+                            if ("resultCode".equals(name)) {
+                                resultCode = parser.getValueAsString("");
+                            } else if ("resultMsg".equals(name)) {
+                                resultMsg = parser.getValueAsString("");
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else if ("body".equals(section) && parser.currentToken() == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String name = parser.currentName();
+                            parser.nextToken();
+                            if ("items".equals(name)) {
+                                readItems(parser, items);
+                            } else if ("totalCount".equals(name)) {
+                                totalCount = parser.getValueAsInt(0);
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+
+        return new Result(resultCode, resultMsg, items, totalCount);
+    }
+
+    /**
+     * items는 결과가 없으면 빈 문자열, 결과가 하나면 item이 배열이 아닌 객체로 내려옵니다.
+     */
+    private static void readItems(JsonParser parser, List<CartResponse.TourSearchResponse> items) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"item".equals(name)) {
+                parser.skipChildren();
+            } else if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    items.add(readItem(parser));
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                items.add(readItem(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static CartResponse.TourSearchResponse readItem(JsonParser parser) throws IOException {
+        String contentId = "", contentTypeId = "", title = "", address = "", address2 = "", zipcode = "";
+        String areaCode = "", cat1 = "", cat2 = "", cat3 = "", createdTime = "", firstImage = "", firstImage2 = "";
+        String cpyrhtDivCd = "", mapX = "", mapY = "", mlevel = "", modifiedTime = "", sigunguCode = "", tel = "";
+        String lDongRegnCd = "", lDongSignguCd = "", lclsSystm1 = "", lclsSystm2 = "", lclsSystm3 = "";
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            String value = parser.getValueAsString("");
+            switch (name) {
+                case "contentid" -> contentId = value;
+                case "contenttypeid" -> contentTypeId = value;
+                case "title" -> title = value;
+                case "addr1" -> address = value;
+                case "addr2" -> address2 = value;
+                case "zipcode" -> zipcode = value;
+                case "areacode" -> areaCode = value;
+                case "cat1" -> cat1 = value;
+                case "cat2" -> cat2 = value;
+                case "cat3" -> cat3 = value;
+                case "createdtime" -> createdTime = value;
+                case "firstimage" -> firstImage = value;
+                case "firstimage2" -> firstImage2 = value;
+                case "cpyrhtDivCd" -> cpyrhtDivCd = value;
+                case "mapx" -> mapX = value;
+                case "mapy" -> mapY = value;
+                case "mlevel" -> mlevel = value;
+                case "modifiedtime" -> modifiedTime = value;
+                case "sigungucode" -> sigunguCode = value;
+                case "tel" -> tel = value;
+                case "lDongRegnCd" -> lDongRegnCd = value;
+                case "lDongSignguCd" -> lDongSignguCd = value;
+                case "lclsSystm1" -> lclsSystm1 = value;
+                case "lclsSystm2" -> lclsSystm2 = value;
+                case "lclsSystm3" -> lclsSystm3 = value;
+                default -> {
+                    // 사용하지 않는 필드
+                }
+            }
+        }
+
+        return CartResponse.TourSearchResponse.builder()
+                .contentId(contentId)
+                .contentTypeId(contentTypeId)
+                .title(title)
+                .address(address)
+                .address2(address2)
+                .zipcode(zipcode)
+                .areaCode(areaCode)
+                .cat1(cat1)
+                .cat2(cat2)
+                .cat3(cat3)
+                .createdTime(createdTime)
+                .firstImage(firstImage)
+                .firstImage2(firstImage2)
+                .cpyrhtDivCd(cpyrhtDivCd)
+                .mapX(mapX)
+                .mapY(mapY)
+                .mlevel(mlevel)
+                .modifiedTime(modifiedTime)
+                .sigunguCode(sigunguCode)
+                .tel(tel)
+                .overview("") // overview는 목록 응답에 없음
+                .lDongRegnCd(lDongRegnCd)
+                .lDongSignguCd(lDongSignguCd)
+                .lclsSystm1(lclsSystm1)
+                .lclsSystm2(lclsSystm2)
+                .lclsSystm3(lclsSystm3)
+                .build();
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("예상하지 못한 응답 형식: " + actual);
+        }
+    }
+}
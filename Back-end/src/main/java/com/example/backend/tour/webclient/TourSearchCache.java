@@ -0,0 +1,217 @@
+package com.example.backend.tour.webclient;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.common.cache.RedisJsonCodec;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * KorService2 목록 조회 결과의 2단계 read-through 캐시
+ * L1: 인스턴스 로컬 Caffeine / L2: 인스턴스 간 공유 Redis
+ * 갱신 주기가 지난 항목은 그대로 응답하고 백그라운드에서 다시 불러옵니다. (stale-while-revalidate)
+ */
+@Component
+@Slf4j
+public class TourSearchCache {
+
+    private static final String KEY_PREFIX = "tour:search:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TaskExecutor refreshExecutor;
+    private final RedisJsonCodec redisJsonCodec;
+    private final Cache<String, CachedPage> localCache;
+    // 외부 API 장애(서킷 open 등) 시 대신 응답할 마지막 정상 결과 (L1보다 긴 TTL)
+    private final Cache<String, CachedPage> staleCache;
+    private final Duration remoteTtl;
+    private final Duration refreshAfter;
+
+    // 같은 키에 대한 백그라운드 갱신이 중복 실행되지 않도록 관리
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+
+    public TourSearchCache(RedisTemplate<String, String> redisTemplate,
+                           @Qualifier("tourCacheRefreshExecutor") TaskExecutor refreshExecutor,
+                           RedisJsonCodec redisJsonCodec,
+                           @Value("${tour.search-cache.local-max-size:2000}") long localMaxSize,
+                           @Value("${tour.search-cache.local-ttl-seconds:600}") long localTtlSeconds,
+                           @Value("${tour.search-cache.remote-ttl-seconds:3600}") long remoteTtlSeconds,
+                           @Value("${tour.search-cache.refresh-after-seconds:300}") long refreshAfterSeconds,
+                           @Value("${tour.search-cache.stale-max-size:5000}") long staleMaxSize,
+                           @Value("${tour.search-cache.stale-ttl-seconds:86400}") long staleTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.refreshExecutor = refreshExecutor;
+        this.redisJsonCodec = redisJsonCodec;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.staleCache = Caffeine.newBuilder()
+                .maximumSize(staleMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(staleTtlSeconds))
+                .build();
+        this.remoteTtl = Duration.ofSeconds(remoteTtlSeconds);
+        this.refreshAfter = Duration.ofSeconds(refreshAfterSeconds);
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader로 불러와 두 저장소에 저장합니다.
+     * Redis 입출력은 boundedElastic에서 수행하여 호출 스레드를 막지 않습니다.
+     * 빈 결과(외부 API 오류 포함)는 저장하지 않습니다.
+     */
+    public Mono<Page<CartResponse.TourSearchResponse>> get(TourSearchKey key, Pageable pageable,
+                                                           Supplier<Mono<Page<CartResponse.TourSearchResponse>>> loader) {
+        String cacheKey = KEY_PREFIX + key.toCacheKey();
+
+        CachedPage local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            localHits.increment();
+            return Mono.just(serve(cacheKey, local, pageable, loader));
+        }
+
+        return Mono.fromCallable(() -> Optional.ofNullable(readRemote(cacheKey)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(remote -> {
+                    if (remote.isPresent()) {
+                        remoteHits.increment();
+                        localCache.put(cacheKey, remote.get());
+                        staleCache.put(cacheKey, remote.get());
+                        return Mono.just(serve(cacheKey, remote.get(), pageable, loader));
+                    }
+                    misses.increment();
+                    return loader.get().doOnNext(page -> store(cacheKey, page));
+                });
+    }
+
+    /**
+     * TTL이 지났더라도 보관 중인 마지막 정상 결과 조회 (외부 API 실패 시 대체 응답용)
+     */
+    public Optional<Page<CartResponse.TourSearchResponse>> getStale(TourSearchKey key, Pageable pageable) {
+        CachedPage stale = staleCache.getIfPresent(KEY_PREFIX + key.toCacheKey());
+        if (stale == null) {
+            return Optional.empty();
+        }
+        staleHits.increment();
+        return Optional.of(stale.toPage(pageable));
+    }
+
+    /**
+     * 캐시 지표 (L1/L2 적중, 미스, 백그라운드 갱신, 장애 시 대체 응답 횟수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("localSize", localCache.estimatedSize());
+        stats.put("localHits", localHits.sum());
+        stats.put("remoteHits", remoteHits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("refreshes", refreshes.sum());
+        stats.put("staleHits", staleHits.sum());
+        return stats;
+    }
+
+    private Page<CartResponse.TourSearchResponse> serve(String cacheKey, CachedPage cached, Pageable pageable,
+                                                        Supplier<Mono<Page<CartResponse.TourSearchResponse>>> loader) {
+        if (isStale(cached)) {
+            refreshAsync(cacheKey, loader);
+        }
+        return cached.toPage(pageable);
+    }
+
+    private boolean isStale(CachedPage cached) {
+        return System.currentTimeMillis() - cached.getCachedAt() > refreshAfter.toMillis();
+    }
+
+    private void refreshAsync(String cacheKey, Supplier<Mono<Page<CartResponse.TourSearchResponse>>> loader) {
+        if (!refreshingKeys.add(cacheKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshes.increment();
+                    store(cacheKey, loader.get().block());
+                } catch (Exception e) {
+                    log.warn("검색 캐시 백그라운드 갱신 실패 - key: {}, 원인: {}", cacheKey, e.getMessage());
+                } finally {
+                    refreshingKeys.remove(cacheKey);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshingKeys.remove(cacheKey);
+            log.debug("검색 캐시 갱신 대기열 초과 - key: {}", cacheKey);
+        }
+    }
+
+    /**
+     * L1에는 즉시, L2(Redis)에는 boundedElastic에서 비동기로 저장
+     */
+    private void store(String cacheKey, Page<CartResponse.TourSearchResponse> page) {
+        if (page == null || !page.hasContent()) {
+            return;
+        }
+        CachedPage cached = new CachedPage(page.getContent(), page.getTotalElements(), System.currentTimeMillis());
+        localCache.put(cacheKey, cached);
+        staleCache.put(cacheKey, cached);
+        Schedulers.boundedElastic().schedule(() -> writeRemote(cacheKey, cached));
+    }
+
+    private void writeRemote(String cacheKey, CachedPage cached) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, redisJsonCodec.write(cached), remoteTtl);
+        } catch (Exception e) {
+            log.warn("검색 캐시 Redis 저장 실패 - key: {}, 원인: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private CachedPage readRemote(String cacheKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(cacheKey);
+            return json != null ? redisJsonCodec.read(json, CachedPage.class) : null;
+        } catch (Exception e) {
+            log.warn("검색 캐시 Redis 조회 실패 - key: {}, 원인: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedPage {
+        private List<CartResponse.TourSearchResponse> content;
+        private long totalElements;
+        private long cachedAt;
+
+        Page<CartResponse.TourSearchResponse> toPage(Pageable pageable) {
+            return new PageImpl<>(content, pageable, totalElements);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.tour.webclient;
+
+import lombok.Builder;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * KorService2 목록 조회의 정규화된 질의 키
+ * 같은 API에 같은 조건으로 들어온 요청은 호출한 메서드와 관계없이 같은 키가 됩니다.
+ * (null, 공백, 앞뒤 공백은 모두 빈 값으로 취급)
+ */
+@Builder
+public record TourSearchKey(
+        String endpoint,
+        String keyword,
+        String areaCode,
+        String sigunguCode,
+        String contentTypeId,
+        String cat1,
+        String cat2,
+        String cat3,
+        String lDongRegnCd,
+        String lDongSignguCd,
+        int page,
+        int size
+) {
+
+    public TourSearchKey {
+        endpoint = normalize(endpoint);
+        keyword = normalize(keyword);
+        areaCode = normalize(areaCode);
+        sigunguCode = normalize(sigunguCode);
+        contentTypeId = normalize(contentTypeId);
+        cat1 = normalize(cat1);
+        cat2 = normalize(cat2);
+        cat3 = normalize(cat3);
+        lDongRegnCd = normalize(lDongRegnCd);
+        lDongSignguCd = normalize(lDongSignguCd);
+    }
+
+    /**
+     * 캐시 저장소(Caffeine, Redis)에서 사용하는 문자열 키
+     */
+    public String toCacheKey() {
+        return String.join(":",
+                endpoint, URLEncoder.encode(keyword, StandardCharsets.UTF_8), areaCode, sigunguCode, contentTypeId,
+                cat1, cat2, cat3, lDongRegnCd, lDongSignguCd,
+                String.valueOf(page), String.valueOf(size));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
@@ -4,6 +4,7 @@ import com.example.backend.board.entity.Board;
 import com.example.backend.board.repository.BoardRepository;
 import com.example.backend.cart.entity.Cart;
 import com.example.backend.cart.repository.CartRepository;
+import com.example.backend.cart.service.CartViewCache;
 import com.example.backend.comment.entity.Comment;
 import com.example.backend.comment.repository.CommentRepository;
 import com.example.backend.favorite.entity.Favorite;
@@ -44,6 +45,7 @@ public class UserService {
     private final ScheduleRepository scheduleRepository;
     private final TourRepository tourRepository;
     private final UserFilter userFilter;
+    private final CartViewCache cartViewCache;
 
     // 1️⃣ 회원가입 로직
     @Transactional
@@ -128,6 +130,7 @@ public class UserService {
             }
             // 그 다음 카트들을 삭제
             cartRepository.deleteAll(userCarts);
+            cartViewCache.evictAfterCommit(user.getUserId());
             log.info("사용자 카트 삭제 완료 - 개수: {}", userCarts.size());
         }
 
@@ -6,6 +6,7 @@ import com.example.backend.weather.dto.response.WeatherResponse.weatherDataRespo
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -15,6 +16,7 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class WeatherService {
 
+    @Qualifier("weatherWebClient")
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
 
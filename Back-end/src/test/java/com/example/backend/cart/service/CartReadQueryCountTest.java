@@ -0,0 +1,162 @@
+package com.example.backend.cart.service;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.cart.entity.Cart;
+import com.example.backend.cart.repository.CartRepository;
+import com.example.backend.tour.entity.Place;
+import com.example.backend.tour.entity.Tour;
+import com.example.backend.tour.entity.TourCategory;
+import com.example.backend.tour.repository.TourRepository;
+import com.example.backend.tour.service.PlaceService;
+import com.example.backend.tour.webclient.TourApiClient;
+import com.example.backend.user.entity.User;
+import com.example.backend.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 장바구니 목록 조회(CartService.getUserCarts)의 쿼리 수 회귀 테스트
+ * 실제 서비스를 호출하며(캐시/변경 이력은 mock으로 항상 미스), 장바구니/투어 수와 관계없이
+ * 사용자 조회 1회 + 합계 조회 1회 + 투어(장소 포함) IN 조회 1회만 실행되어야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cart-read;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type=BINARY"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CartReadQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private TourRepository tourRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Statistics statistics;
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        CartViewCache cartViewCache = mock(CartViewCache.class);
+        when(cartViewCache.get(any(), anyLong())).thenReturn(Optional.empty());
+        CartChangeLog cartChangeLog = mock(CartChangeLog.class);
+        when(cartChangeLog.currentVersion(any())).thenReturn(1L);
+
+        cartService = new CartService(cartRepository, tourRepository, userRepository,
+                mock(TourApiClient.class), cartViewCache, cartChangeLog, mock(TransactionTemplate.class),
+                mock(PlaceService.class), mock(TourDetailEnrichmentService.class), mock(TourClusterer.class));
+    }
+
+    @Test
+    void 장바구니가_하나일_때_쿼리_2회() {
+        User user = persistUser("one@example.com");
+        persistCarts(user, 1, 5);
+
+        assertThat(countReadQueries(user, 1, 5)).isEqualTo(3);
+    }
+
+    @Test
+    void 장바구니와_투어가_늘어도_쿼리_수는_같다() {
+        User user = persistUser("many@example.com");
+        persistCarts(user, 6, 8);
+
+        assertThat(countReadQueries(user, 6, 8)).isEqualTo(3);
+    }
+
+    @Test
+    void 빈_장바구니도_쿼리_수는_같다() {
+        User user = persistUser("empty@example.com");
+        persistCarts(user, 3, 0);
+
+        assertThat(countReadQueries(user, 3, 0)).isEqualTo(3);
+    }
+
+    /**
+     * CartService.getUserCarts 호출 전후로 실행된 쿼리 수 (응답에 쓰는 장소 정보까지 모두 확인)
+     */
+    private long countReadQueries(User user, int expectedCarts, int expectedToursPerCart) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        CartResponse.VersionedCarts view = cartService.getUserCarts(user.getUserId().toString());
+        long queries = statistics.getPrepareStatementCount();
+
+        assertThat(view.getCarts()).hasSize(expectedCarts);
+        view.getCarts().forEach(cart -> {
+            assertThat(cart.getTotalCount()).isEqualTo(expectedToursPerCart);
+            assertThat(cart.getTours()).hasSize(expectedToursPerCart)
+                    .allSatisfy(tour -> {
+                        assertThat(tour.getTitle()).startsWith("장소 ");
+                        assertThat(tour.getLatitude()).isNotNull();
+                    });
+        });
+        return queries;
+    }
+
+    private User persistUser(String email) {
+        return entityManager.persist(User.builder()
+                .email(email)
+                .userName("tester")
+                .userNickname("tester")
+                .userRole(User.Role.USER)
+                .build());
+    }
+
+    private void persistCarts(User user, int cartCount, int toursPerCart) {
+        for (int c = 0; c < cartCount; c++) {
+            Cart cart = entityManager.persist(Cart.builder()
+                    .lDongRegnCd("11")
+                    .lDongSignguCd("110")
+                    .userId(user)
+                    .totalExpense(BigDecimal.valueOf(1000L * toursPerCart))
+                    .tourCount(toursPerCart)
+                    .build());
+            for (int t = 0; t < toursPerCart; t++) {
+                String contentId = user.getEmail().hashCode() + "-" + c + "-" + t;
+                entityManager.persist(Place.builder()
+                        .contentId(contentId)
+                        .title("장소 " + contentId)
+                        .latitude(37.5 + t * 0.01)
+                        .longitude(127.0 + t * 0.01)
+                        .build());
+                entityManager.persist(Tour.builder()
+                        .contentId(contentId)
+                        .category(TourCategory.values()[t % TourCategory.values().length])
+                        .price(1000L)
+                        .cartId(cart)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.backend.schedule.route;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * TspRouteEngine 품질 검증
+ * - 노드 수가 적으면(Held-Karp) 전수 탐색과 같은 최단 거리
+ * - 노드 수가 많으면(2-opt/Or-opt) 최근접 이웃(GreedyRouteEngine)보다 길지 않음
+ * - 두 경우 모두 출발지(0번)와 도착 숙소(end)는 처음과 마지막에 고정
+ */
+class TspRouteEngineTest {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final GreedyRouteEngine greedy = new GreedyRouteEngine();
+    private final TspRouteEngine exact = new TspRouteEngine(greedy, 12);
+    // Held-Karp를 쓰지 않고 지역 탐색만 사용
+    private final TspRouteEngine heuristic = new TspRouteEngine(greedy, 0);
+
+    @Test
+    void Held_Karp는_전수_탐색과_같은_최단_거리를_찾는다() {
+        Random random = new Random(42);
+        for (int n = 4; n <= 9; n++) {
+            for (int trial = 0; trial < 20; trial++) {
+                DistanceMatrix matrix = randomMatrix(random, n);
+
+                int[] free = exact.solve(matrix, -1, NO_DEADLINE);
+                assertValidRoute(free, n, -1);
+                assertThat(matrix.pathLength(free)).isCloseTo(bruteForce(matrix, -1), within(1e-9));
+
+                int end = n - 1;
+                int[] fixed = exact.solve(matrix, end, NO_DEADLINE);
+                assertValidRoute(fixed, n, end);
+                assertThat(matrix.pathLength(fixed)).isCloseTo(bruteForce(matrix, end), within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void 지역_탐색은_최근접_이웃보다_길지_않다() {
+        Random random = new Random(7);
+        for (int n = 15; n <= 60; n += 5) {
+            for (int trial = 0; trial < 10; trial++) {
+                DistanceMatrix matrix = randomMatrix(random, n);
+                for (int end : new int[]{-1, n - 1}) {
+                    int[] baseline = greedy.solve(matrix, end, NO_DEADLINE);
+                    int[] improved = heuristic.solve(matrix, end, NO_DEADLINE);
+
+                    assertValidRoute(improved, n, end);
+                    assertThat(matrix.pathLength(improved))
+                            .isLessThanOrEqualTo(matrix.pathLength(baseline) + 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    void 마감_시각이_지나도_출발지와_도착지가_고정된_경로를_반환한다() {
+        DistanceMatrix matrix = randomMatrix(new Random(1), 30);
+
+        int[] order = heuristic.solve(matrix, 29, System.nanoTime() - 1);
+
+        assertValidRoute(order, 30, 29);
+    }
+
+    @Test
+    void 노드가_적으면_그대로_방문한다() {
+        DistanceMatrix matrix = randomMatrix(new Random(3), 2);
+
+        assertThat(exact.solve(matrix, -1, NO_DEADLINE)).containsExactly(0, 1);
+        assertThat(exact.solve(matrix, 1, NO_DEADLINE)).containsExactly(0, 1);
+    }
+
+    private static void assertValidRoute(int[] order, int n, int end) {
+        assertThat(order).hasSize(n);
+        assertThat(order[0]).isZero();
+        if (end >= 0) {
+            assertThat(order[n - 1]).isEqualTo(end);
+        }
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < n; i++) {
+            assertThat(sorted[i]).isEqualTo(i);
+        }
+    }
+
+    /**
+     * 평면 위 임의 좌표의 유클리드 거리 행렬
+     */
+    private static DistanceMatrix randomMatrix(Random random, int n) {
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble() * 100;
+            y[i] = random.nextDouble() * 100;
+        }
+        double[] distances = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                distances[i * n + j] = Math.hypot(x[i] - x[j], y[i] - y[j]);
+            }
+        }
+        return new DistanceMatrix(n, distances);
+    }
+
+    /**
+     * 0번 출발, end(없으면 -1) 도착인 모든 순서 중 최단 거리
+     */
+    private static double bruteForce(DistanceMatrix matrix, int end) {
+        int n = matrix.size();
+        int[] middle = new int[end >= 0 ? n - 2 : n - 1];
+        for (int node = 1, i = 0; node < n; node++) {
+            if (node != end) {
+                middle[i++] = node;
+            }
+        }
+        return permute(matrix, middle, 0, end);
+    }
+
+    private static double permute(DistanceMatrix matrix, int[] nodes, int index, int end) {
+        if (index == nodes.length) {
+            double length = 0;
+            int previous = 0;
+            for (int node : nodes) {
+                length += matrix.get(previous, node);
+                previous = node;
+            }
+            return end >= 0 ? length + matrix.get(previous, end) : length;
+        }
+        double best = Double.MAX_VALUE;
+        for (int i = index; i < nodes.length; i++) {
+            swap(nodes, index, i);
+            best = Math.min(best, permute(matrix, nodes, index + 1, end));
+            swap(nodes, index, i);
+        }
+        return best;
+    }
+
+    private static void swap(int[] nodes, int i, int j) {
+        int temp = nodes[i];
+        nodes[i] = nodes[j];
+        nodes[j] = temp;
+    }
+}
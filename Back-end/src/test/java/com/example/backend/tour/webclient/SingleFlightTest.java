@@ -0,0 +1,139 @@
+package com.example.backend.tour.webclient;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CONCURRENCY = 32;
+
+    @Test
+    void 같은_키의_동시_요청은_한_번만_실행하고_결과를_함께_받는다() throws Exception {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        List<CompletableFuture<String>> results = subscribeConcurrently(CONCURRENCY,
+                () -> singleFlight.execute("areaBasedList2?areaCode=1", () -> {
+                    calls.incrementAndGet();
+                    return upstream.asMono();
+                }));
+
+        // 모든 요청이 구독한 뒤에 외부 호출이 완료됨
+        upstream.tryEmitValue("response");
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("response");
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.getStats())
+                .containsEntry("executed", 1L)
+                .containsEntry("coalesced", (long) CONCURRENCY - 1)
+                .containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void 완료된_뒤의_요청은_다시_실행한다() {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            String result = singleFlight.execute("key", () -> Mono.fromCallable(() -> "call-" + calls.incrementAndGet()))
+                    .block();
+            assertThat(result).isEqualTo("call-" + (i + 1));
+        }
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void 키가_다르면_각각_실행한다() {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        CompletableFuture<String> first = singleFlight.execute("a", () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).toFuture();
+        CompletableFuture<String> second = singleFlight.execute("b", () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).toFuture();
+        upstream.tryEmitValue("response");
+
+        assertThat(first.join()).isEqualTo("response");
+        assertThat(second.join()).isEqualTo("response");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void 실패하면_기다리던_요청_모두에_전달하고_키를_제거한다() throws Exception {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        List<CompletableFuture<String>> results = subscribeConcurrently(CONCURRENCY,
+                () -> singleFlight.execute("key", () -> {
+                    calls.incrementAndGet();
+                    return upstream.asMono();
+                }));
+        upstream.tryEmitError(new IllegalStateException("TourAPI 장애"));
+
+        for (CompletableFuture<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.getStats()).containsEntry("inFlight", 0);
+
+        // 실패 결과를 남기지 않으므로 다음 요청은 다시 실행
+        assertThat(singleFlight.execute("key", () -> Mono.just("recovered")).block()).isEqualTo("recovered");
+    }
+
+    /**
+     * 여러 스레드에서 동시에 구독하고, 모두 구독을 마친 뒤 결과 future 목록을 반환
+     */
+    private static List<CompletableFuture<String>> subscribeConcurrently(int count, Supplier<Mono<String>> request)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch subscribed = new CountDownLatch(count);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                CompletableFuture<String> result = new CompletableFuture<>();
+                results.add(result);
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        request.get().subscribe(result::complete, result::completeExceptionally);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        result.completeExceptionally(e);
+                    } finally {
+                        subscribed.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            assertThat(subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+        return results;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.backend.tour.webclient;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.tour.repository.PlaceRepository;
+import com.example.backend.tour.service.TourCatalogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상세 조회 지연 테스트 (외부 API를 고정 지연 stub으로 대체)
+ * detailCommon2 이후 나머지 4개 API를 동시에 호출하므로 전체 시간은 API 5회 순차 호출이 아니라 약 2회분이어야 합니다.
+ */
+class TourApiClientDetailLatencyTest {
+
+    private static final Duration LATENCY = Duration.ofMillis(300);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Map<String, AtomicInteger> callsByApi = new ConcurrentHashMap<>();
+
+    @Test
+    void 공통정보_이후_4개_API를_동시에_호출한다() {
+        TourApiClient client = client(Set.of());
+
+        long startedAt = System.nanoTime();
+        CartResponse.TourDetailResponse detail = client.findTourDetailAsync("126508").block();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(detail).isNotNull();
+        assertThat(detail.getTitle()).isEqualTo("경복궁");
+        assertThat(maxInFlight).hasValue(4);
+        // 순차 호출이면 5 × 300ms
+        assertThat(elapsedMs).isLessThan(LATENCY.toMillis() * 4);
+        assertThat(callsByApi.keySet())
+                .containsExactlyInAnyOrder("detailCommon2", "detailIntro2", "detailInfo2", "detailImage2", "detailPetTour2");
+    }
+
+    @Test
+    void 일부_API가_실패해도_나머지_결과로_상세_정보를_만든다() {
+        TourApiClient client = client(Set.of("detailPetTour2", "detailInfo2"));
+
+        CartResponse.TourDetailResponse detail = client.findTourDetailAsync("126508").block();
+
+        assertThat(detail).isNotNull();
+        assertThat(detail.getTitle()).isEqualTo("경복궁");
+    }
+
+    @Test
+    void 같은_장소를_동시에_조회하면_외부_API는_한_번씩만_호출한다() {
+        TourApiClient client = client(Set.of());
+
+        Mono.zip(client.findTourDetailAsync("126508"), client.findTourDetailAsync("126508"),
+                client.findTourDetailAsync("126508")).block();
+
+        callsByApi.values().forEach(calls -> assertThat(calls).hasValue(1));
+    }
+
+    /**
+     * failingApis 에 있는 API는 지연 후 500 응답
+     */
+    private TourApiClient client(Set<String> failingApis) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    String path = request.url().getPath();
+                    String api = path.substring(path.lastIndexOf('/') + 1);
+                    return Mono.delay(LATENCY)
+                            .doOnSubscribe(subscription -> {
+                                callsByApi.computeIfAbsent(api, key -> new AtomicInteger()).incrementAndGet();
+                                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            })
+                            .doOnNext(tick -> inFlight.decrementAndGet())
+                            .map(tick -> failingApis.contains(api)
+                                    ? ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build()
+                                    : ClientResponse.create(HttpStatus.OK)
+                                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                            .body(responseOf(api))
+                                            .build());
+                })
+                .build();
+
+        TourApiClient client = new TourApiClient(
+                webClient,
+                new ObjectMapper(),
+                mock(PlaceRepository.class),
+                mock(TourSearchCache.class),
+                mock(TourCatalogService.class),
+                new TourApiResilience(50, 5_000, 80, 20, 10, 30_000, 3, 20),
+                new TourDetailPrefetcher(new SyncTaskExecutor(), false, 5, 5, 100, 60));
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "baseUrl", "http://localhost/B551011/KorService2");
+        return client;
+    }
+
+    private static String responseOf(String api) {
+        String item = switch (api) {
+            case "detailCommon2" -> """
+                    {"contentid": "126508", "contenttypeid": "12", "title": "경복궁", "addr1": "서울특별시 종로구 사직로 161",
+                     "areacode": "1", "cat1": "A02", "cat2": "A0201", "cat3": "A02010100",
+                     "mapx": "126.9767375783", "mapy": "37.5760836609", "tel": "02-3700-3900",
+                     "lDongRegnCd": "11", "lDongSignguCd": "110"}
+                    """;
+            case "detailImage2" -> """
+                    {"contentid": "126508", "originimgurl": "http://tong.visitkorea.or.kr/a.jpg"}
+                    """;
+            default -> """
+                    {"contentid": "126508", "contenttypeid": "12"}
+                    """;
+        };
+        return "{\"response\": {\"header\": {\"resultCode\": \"0000\", \"resultMsg\": \"OK\"},"
+                + " \"body\": {\"items\": {\"item\": [" + item + "]}, \"totalCount\": 1}}}";
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.backend.tour.webclient;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.example.backend.tour.repository.PlaceRepository;
+import com.example.backend.tour.service.TourCatalogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 목록 검색 부하 테스트 (외부 API를 고정 지연 stub으로 대체)
+ * 검색 경로가 논블로킹이므로 응답을 기다리는 동안 스레드를 잡지 않아야 합니다.
+ * 외부 지연을 바꿔 가며 동시 요청을 보내고, 전체 시간이 요청 수에 비례해 늘지 않는지와
+ * 실행 중 JVM 스레드 수(ThreadMXBean)가 지연과 관계없이 거의 늘지 않는지 확인합니다.
+ */
+class TourApiClientSearchLoadTest {
+
+    private static final List<Duration> LATENCIES = List.of(
+            Duration.ofMillis(100), Duration.ofMillis(300), Duration.ofMillis(600));
+    private static final int REQUESTS = 200;
+    // 요청마다 스레드를 잡는 구현이라면 요청 수(200)만큼 늘어남
+    private static final int MAX_THREAD_GROWTH = 10;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger peakThreads = new AtomicInteger();
+
+    @Test
+    void 외부_지연이_달라도_스레드_수는_늘지_않고_지연_한_번_수준의_시간에_처리한다() {
+        // Reactor 스케줄러 등 처음 한 번 만들어지는 스레드는 기준에 포함
+        Duration warmUpLatency = Duration.ofMillis(10);
+        runLoad(client(passThroughCache(), warmUpLatency), warmUpLatency);
+        int baselineThreads = threadMXBean.getThreadCount();
+
+        List<Integer> growthByLatency = new ArrayList<>();
+        for (Duration latency : LATENCIES) {
+            inFlight.set(0);
+            maxInFlight.set(0);
+            peakThreads.set(threadMXBean.getThreadCount());
+
+            long elapsedMs = runLoad(client(passThroughCache(), latency), latency);
+            int growth = peakThreads.get() - baselineThreads;
+            growthByLatency.add(growth);
+
+            assertThat(maxInFlight.get()).as("latency %s", latency).isGreaterThan(REQUESTS / 2);
+            // 순차 처리라면 200 × 지연
+            assertThat(elapsedMs).as("latency %s", latency).isLessThan(latency.toMillis() * 10 + 1_000);
+            assertThat(growth).as("latency %s", latency).isLessThanOrEqualTo(MAX_THREAD_GROWTH);
+        }
+
+        // 지연이 6배가 되어도 스레드 증가량은 그대로
+        assertThat(Collections.max(growthByLatency) - Collections.min(growthByLatency))
+                .isLessThanOrEqualTo(MAX_THREAD_GROWTH / 2);
+    }
+
+    /**
+     * 동시 검색 요청 REQUESTS개를 보내고 모두 끝날 때까지 걸린 시간(ms) 반환
+     */
+    private long runLoad(TourApiClient client, Duration latency) {
+        long startedAt = System.nanoTime();
+        List<Page<CartResponse.TourSearchResponse>> pages = Flux.range(0, REQUESTS)
+                .flatMap(page -> client.searchToursByAreaAsync("1", null, PageRequest.of(page, 10)), REQUESTS)
+                .collectList()
+                .block(latency.multipliedBy(REQUESTS).plusSeconds(10));
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(pages).hasSize(REQUESTS);
+        assertThat(pages).allSatisfy(page -> assertThat(page.getContent()).hasSize(1));
+        assertThat(pages.stream().map(page -> page.getContent().get(0).getTitle()).distinct()).hasSize(REQUESTS);
+        return elapsedMs;
+    }
+
+    // 캐시를 거치지 않고 매번 외부 API 호출
+    @SuppressWarnings("unchecked")
+    private TourSearchCache passThroughCache() {
+        TourSearchCache tourSearchCache = mock(TourSearchCache.class);
+        when(tourSearchCache.get(any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<Page<CartResponse.TourSearchResponse>>>) invocation.getArgument(2)).get());
+        return tourSearchCache;
+    }
+
+    private TourApiClient client(TourSearchCache tourSearchCache, Duration latency) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.delay(latency)
+                        .doOnSubscribe(subscription -> {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            peakThreads.accumulateAndGet(threadMXBean.getThreadCount(), Math::max);
+                        })
+                        .doOnNext(tick -> {
+                            inFlight.decrementAndGet();
+                            peakThreads.accumulateAndGet(threadMXBean.getThreadCount(), Math::max);
+                        })
+                        .map(tick -> ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body(listResponse(UriComponentsBuilder.fromUri(request.url()).build()
+                                        .getQueryParams().getFirst("pageNo")))
+                                .build()))
+                .build();
+
+        TourApiClient client = new TourApiClient(
+                webClient,
+                new ObjectMapper(),
+                mock(PlaceRepository.class),
+                tourSearchCache,
+                mock(TourCatalogService.class),
+                new TourApiResilience(50, 5_000, 80, 20, 10, 30_000, 3, REQUESTS),
+                new TourDetailPrefetcher(new SyncTaskExecutor(), false, 5, 5, 100, 60));
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "baseUrl", "http://localhost/B551011/KorService2");
+        return client;
+    }
+
+    private static String listResponse(String pageNo) {
+        return "{\"response\": {\"header\": {\"resultCode\": \"0000\", \"resultMsg\": \"OK\"},"
+                + " \"body\": {\"items\": {\"item\": [{\"contentid\": \"" + pageNo + "\", \"title\": \"장소 " + pageNo + "\","
+                + " \"areacode\": \"1\", \"mapx\": \"126.97\", \"mapy\": \"37.57\"}]}, \"totalCount\": " + REQUESTS * 10 + "}}}";
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.backend.tour.webclient;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 외부 API 장애(오류/지연/동시 호출 폭주)를 주입해 구간별 서킷 브레이커와 벌크헤드 동작 확인
+ */
+class TourApiResilienceTest {
+
+    private static final int WINDOW = 4;
+
+    @Test
+    void 오류가_이어지면_서킷이_열리고_외부_호출_없이_즉시_실패한다() {
+        TourApiResilience resilience = resilience(60_000, 20);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.error(new IllegalStateException("503 Service Unavailable"));
+        });
+
+        for (int i = 0; i < WINDOW; i++) {
+            assertThatThrownBy(() -> resilience.decorate("detailCommon2", failing).block())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(state(resilience, TourApiResilience.DETAIL)).isEqualTo("OPEN");
+        assertThatThrownBy(() -> resilience.decorate("detailIntro2", failing).block())
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(upstreamCalls).hasValue(WINDOW);
+    }
+
+    @Test
+    void 한_구간의_서킷이_열려도_다른_구간은_호출된다() {
+        TourApiResilience resilience = resilience(60_000, 20);
+        for (int i = 0; i < WINDOW; i++) {
+            resilience.decorate("detailCommon2", Mono.error(new IllegalStateException("timeout")))
+                    .onErrorResume(e -> Mono.empty())
+                    .block();
+        }
+
+        assertThat(resilience.decorate("searchKeyword2", Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(resilience.decorate("areaBasedList2", Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(state(resilience, TourApiResilience.DETAIL)).isEqualTo("OPEN");
+        assertThat(state(resilience, TourApiResilience.SEARCH)).isEqualTo("CLOSED");
+        assertThat(state(resilience, TourApiResilience.AREA_LIST)).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void 느린_응답이_이어져도_서킷이_열린다() {
+        TourApiResilience resilience = new TourApiResilience(50, 50, 100, WINDOW, WINDOW, 60_000, 1, 20);
+
+        for (int i = 0; i < WINDOW; i++) {
+            resilience.decorate("searchKeyword2", Mono.delay(Duration.ofMillis(100)).thenReturn("slow")).block();
+        }
+
+        assertThat(state(resilience, TourApiResilience.SEARCH)).isEqualTo("OPEN");
+    }
+
+    @Test
+    void 대기_시간이_지나면_반열림에서_성공한_뒤_닫힌다() throws Exception {
+        TourApiResilience resilience = resilience(100, 20);
+        for (int i = 0; i < WINDOW; i++) {
+            resilience.decorate("areaBasedList2", Mono.error(new IllegalStateException("502")))
+                    .onErrorResume(e -> Mono.empty())
+                    .block();
+        }
+        assertThat(state(resilience, TourApiResilience.AREA_LIST)).isEqualTo("OPEN");
+
+        Thread.sleep(300);
+
+        assertThat(resilience.decorate("areaBasedList2", Mono.just("recovered")).block()).isEqualTo("recovered");
+        assertThat(state(resilience, TourApiResilience.AREA_LIST)).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void 동시_호출이_한도를_넘으면_대기하지_않고_거절하며_실패율에는_넣지_않는다() {
+        TourApiResilience resilience = resilience(60_000, 2);
+        Sinks.One<String> slowUpstream = Sinks.one();
+
+        CompletableFuture<String> first = resilience.decorate("detailCommon2", slowUpstream.asMono()).toFuture();
+        CompletableFuture<String> second = resilience.decorate("detailCommon2", slowUpstream.asMono()).toFuture();
+
+        for (int i = 0; i < WINDOW * 2; i++) {
+            assertThatThrownBy(() -> resilience.decorate("detailCommon2", Mono.just("rejected")).block())
+                    .isInstanceOf(BulkheadFullException.class);
+        }
+        assertThat(state(resilience, TourApiResilience.DETAIL)).isEqualTo("CLOSED");
+        assertThat(endpointStats(resilience, TourApiResilience.DETAIL)).containsEntry("availableConcurrentCalls", 0);
+
+        slowUpstream.tryEmitValue("done");
+
+        assertThat(first.join()).isEqualTo("done");
+        assertThat(second.join()).isEqualTo("done");
+        assertThat(resilience.decorate("detailCommon2", Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(endpointStats(resilience, TourApiResilience.DETAIL)).containsEntry("availableConcurrentCalls", 2);
+    }
+
+    /**
+     * 실패율 50%, 최근 4회 기준, 반열림에서 1회 성공 시 닫힘
+     */
+    private static TourApiResilience resilience(long waitDurationInOpenStateMs, int maxConcurrentCalls) {
+        return new TourApiResilience(50, 5_000, 100, WINDOW, WINDOW, waitDurationInOpenStateMs, 1, maxConcurrentCalls);
+    }
+
+    private static String state(TourApiResilience resilience, String endpoint) {
+        return (String) endpointStats(resilience, endpoint).get("state");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> endpointStats(TourApiResilience resilience, String endpoint) {
+        return (Map<String, Object>) resilience.getStats().get(endpoint);
+    }
+}
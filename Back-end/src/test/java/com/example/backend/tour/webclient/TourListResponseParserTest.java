@@ -0,0 +1,146 @@
+package com.example.backend.tour.webclient;
+
+import com.example.backend.cart.dto.response.CartResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스트리밍 파서 결과가 기존 JsonNode 트리 방식 매핑과 같은지 비교
+ */
+class TourListResponseParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String ITEM_1 = """
+            {"addr1": "서울특별시 종로구 사직로 161", "addr2": "", "areacode": "1", "cat1": "A02", "cat2": "A0201",
+             "cat3": "A02010100", "contentid": "126508", "contenttypeid": "12", "createdtime": "20031105090000",
+             "firstimage": "http://tong.visitkorea.or.kr/a.jpg", "firstimage2": "http://tong.visitkorea.or.kr/b.jpg",
+             "cpyrhtDivCd": "Type3", "mapx": "126.9767375783", "mapy": "37.5760836609", "mlevel": "6",
+             "modifiedtime": "20250107101313", "sigungucode": "23", "tel": "02-3700-3900", "title": "경복궁",
+             "zipcode": "03045", "lDongRegnCd": "11", "lDongSignguCd": "110",
+             "lclsSystm1": "HS", "lclsSystm2": "HS01", "lclsSystm3": "HS010100"}
+            """;
+
+    // 숫자 값, null, 중첩 객체, 알 수 없는 필드가 섞인 항목
+    private static final String ITEM_2 = """
+            {"contentid": 2733967, "title": "남산서울타워", "tel": null, "mapx": "126.9882", "mapy": "37.5512",
+             "extra": {"nested": [1, 2, 3]}, "tags": ["a", "b"], "areacode": 1, "addr1": "서울특별시 용산구"}
+            """;
+
+    @Test
+    void 여러_항목_응답을_트리_방식과_같게_파싱한다() throws Exception {
+        String json = response("0000", "OK", "{\"item\": [" + ITEM_1 + "," + ITEM_2 + "]}", 2);
+
+        TourListResponseParser.Result result = TourListResponseParser.parse(bytes(json));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.items()).usingRecursiveComparison().isEqualTo(treeMapping(json));
+        assertThat(result.items().get(1).getContentId()).isEqualTo("2733967");
+        assertThat(result.items().get(1).getTel()).isEmpty();
+    }
+
+    @Test
+    void 결과가_하나면_객체로_온_item도_파싱한다() throws Exception {
+        String json = response("0000", "OK", "{\"item\": " + ITEM_1 + "}", 1);
+
+        TourListResponseParser.Result result = TourListResponseParser.parse(bytes(json));
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.items()).usingRecursiveComparison().isEqualTo(treeMapping(json));
+    }
+
+    @Test
+    void 결과가_없으면_빈_문자열_items를_빈_목록으로_파싱한다() throws Exception {
+        String json = response("0000", "OK", "\"\"", 0);
+
+        TourListResponseParser.Result result = TourListResponseParser.parse(bytes(json));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.items()).isEmpty();
+        assertThat(result.totalCount()).isZero();
+    }
+
+    @Test
+    void API_오류_응답은_결과_코드와_메시지를_돌려준다() throws Exception {
+        String json = """
+                {"response": {"header": {"resultCode": "22", "resultMsg": "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR"}}}
+                """;
+
+        TourListResponseParser.Result result = TourListResponseParser.parse(bytes(json));
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.resultCode()).isEqualTo("22");
+        assertThat(result.resultMsg()).isEqualTo("LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR");
+        assertThat(result.items()).isEmpty();
+    }
+
+    @Test
+    void 객체가_아닌_응답은_예외() {
+        assertThatThrownBy(() -> TourListResponseParser.parse(bytes("[]")))
+                .isInstanceOf(java.io.IOException.class);
+    }
+
+    private static String response(String resultCode, String resultMsg, String items, int totalCount) {
+        return "{\"response\": {\"header\": {\"resultCode\": \"" + resultCode + "\", \"resultMsg\": \"" + resultMsg + "\"},"
+                + " \"body\": {\"items\": " + items + ", \"numOfRows\": 10, \"pageNo\": 1, \"totalCount\": " + totalCount + "}}}";
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 스트리밍 파서 도입 전 TourApiClient의 JsonNode 트리 매핑 (비교 기준)
+     */
+    private List<CartResponse.TourSearchResponse> treeMapping(String json) throws Exception {
+        JsonNode itemNode = objectMapper.readTree(json).path("response").path("body").path("items").path("item");
+        List<CartResponse.TourSearchResponse> tours = new ArrayList<>();
+        if (itemNode.isArray()) {
+            itemNode.forEach(item -> tours.add(toTour(item)));
+        } else if (!itemNode.isMissingNode() && !itemNode.isNull()) {
+            tours.add(toTour(itemNode));
+        }
+        return tours;
+    }
+
+    private static CartResponse.TourSearchResponse toTour(JsonNode item) {
+        return CartResponse.TourSearchResponse.builder()
+                .contentId(item.path("contentid").asText(""))
+                .contentTypeId(item.path("contenttypeid").asText(""))
+                .title(item.path("title").asText(""))
+                .address(item.path("addr1").asText(""))
+                .address2(item.path("addr2").asText(""))
+                .zipcode(item.path("zipcode").asText(""))
+                .areaCode(item.path("areacode").asText(""))
+                .cat1(item.path("cat1").asText(""))
+                .cat2(item.path("cat2").asText(""))
+                .cat3(item.path("cat3").asText(""))
+                .createdTime(item.path("createdtime").asText(""))
+                .firstImage(item.path("firstimage").asText(""))
+                .firstImage2(item.path("firstimage2").asText(""))
+                .cpyrhtDivCd(item.path("cpyrhtDivCd").asText(""))
+                .mapX(item.path("mapx").asText(""))
+                .mapY(item.path("mapy").asText(""))
+                .mlevel(item.path("mlevel").asText(""))
+                .modifiedTime(item.path("modifiedtime").asText(""))
+                .sigunguCode(item.path("sigungucode").asText(""))
+                .tel(item.path("tel").asText(""))
+                .overview("")
+                .lDongRegnCd(item.path("lDongRegnCd").asText(""))
+                .lDongSignguCd(item.path("lDongSignguCd").asText(""))
+                .lclsSystm1(item.path("lclsSystm1").asText(""))
+                .lclsSystm2(item.path("lclsSystm2").asText(""))
+                .lclsSystm3(item.path("lclsSystm3").asText(""))
+                .build();
+    }
+}